@@ -0,0 +1,138 @@
+package ready_to_marry.authservice.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 발급/검증 핫패스 JMH 벤치마크
+ *
+ * - 로그인(Access + Refresh 발급), 리프레시(검증 + 파싱 + 재발급) 흐름에서 호출되는 메서드를 role별로 측정
+ * - 외부 의존성 없이 고정 Base64 키(HMAC) / 기동 시 생성한 ES256 키(ASYMMETRIC)로 오프라인 실행
+ * - 실행: ./gradlew jmh (ops/s, p99 지연, gc.alloc.rate 리포트는 build/results/jmh)
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+    // 벤치마크 전용 고정 키 (256bit, 운영 키와 무관)
+    private static final String SECRET_KEY = "cmVhZHktdG8tbWFycnktam1oLWJlbmNobWFyay1rZXk=";
+
+    // 고정 subject (accountId)
+    private static final String SUBJECT = "3f2b8c1e-6a4d-4e8f-9b7a-1c2d3e4f5a6b";
+
+    // 고정 세션 ID (refresh 토큰 sid)
+    private static final String SESSION_ID = "7c1d9e2f-3a4b-4c5d-8e6f-0a1b2c3d4e5f";
+
+    // 벤치마크 전용 ES256 키 (kid: bench-es256)
+    private static final String ES256_KID = "bench-es256";
+
+    // JwtClaims role 형태 (USER: userId / PARTNER: partnerId / ADMIN: adminId + adminRole)
+    @Param({"USER", "PARTNER", "ADMIN"})
+    private String role;
+
+    // 서명 방식 (HMAC: HS256 공유키, ASYMMETRIC: ES256 키 링)
+    @Param({"HMAC", "ASYMMETRIC"})
+    private String signingMode;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtClaims claims;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecretKey(SECRET_KEY);
+        props.setAccessExpiry(1800);
+        props.setRefreshExpiry(1209600);
+        props.setVerificationExpiry(600);
+        props.setSigningMode(JwtProperties.SigningMode.valueOf(signingMode));
+        if (props.getSigningMode() == JwtProperties.SigningMode.ASYMMETRIC) {
+            props.getAsymmetric().setActiveKid(ES256_KID);
+            props.getAsymmetric().getKeys().put(ES256_KID, generateEs256Key());
+        }
+
+        JwtKeyRing keyRing = new JwtKeyRing(props);
+        keyRing.init();
+        jwtTokenProvider = new JwtTokenProvider(props, keyRing);
+        jwtTokenProvider.init();
+
+        claims = switch (role) {
+            case "USER" -> JwtClaims.builder()
+                    .role(role)
+                    .userId(1001L)
+                    .build();
+            case "PARTNER" -> JwtClaims.builder()
+                    .role(role)
+                    .partnerId(2001L)
+                    .build();
+            case "ADMIN" -> JwtClaims.builder()
+                    .role(role)
+                    .adminId(3001L)
+                    .adminRole("SUPER_ADMIN")
+                    .build();
+            default -> throw new IllegalArgumentException("Unsupported role: " + role);
+        };
+
+        accessToken = jwtTokenProvider.generateAccessToken(SUBJECT, claims);
+        refreshToken = jwtTokenProvider.generateRefreshToken(SUBJECT, SESSION_ID);
+    }
+
+    private static JwtProperties.SigningKey generateEs256Key() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+
+            JwtProperties.SigningKey key = new JwtProperties.SigningKey();
+            key.setAlgorithm("ES256");
+            key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+            key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+            return key;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(SUBJECT, claims);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtTokenProvider.generateRefreshToken(SUBJECT, SESSION_ID);
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateRefreshToken() {
+        return jwtTokenProvider.validateToken(refreshToken);
+    }
+
+    @Benchmark
+    public Jws<Claims> parseClaims() {
+        return jwtTokenProvider.parseClaims(accessToken);
+    }
+
+    @Benchmark
+    public Optional<Claims> verifyAndGetClaims() {
+        return jwtTokenProvider.verifyAndGetClaims(refreshToken);
+    }
+}
@@ -0,0 +1,65 @@
+package ready_to_marry.authservice.partner.email;
+
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import ready_to_marry.authservice.common.enums.MailType;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파트너 메일 본문 렌더링 JMH 벤치마크 (Thymeleaf 처리 vs 사전 처리 템플릿 치환)
+ *
+ * - 운영과 같은 템플릿 리졸버·classpath 템플릿으로 메일 종류별 측정
+ * - 대량 승인·거부 시 메일 1건당 렌더링 CPU·할당량 비교용
+ * - 실행: ./gradlew jmh (ops/s, p99 지연, gc.alloc.rate 리포트는 build/results/jmh)
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmailRendererBenchmark {
+    // 렌더링 경로 (THYMELEAF: 메일마다 templateEngine.process, PRERENDERED: 기동 시 처리 후 값 치환)
+    @Param({"THYMELEAF", "PRERENDERED"})
+    private String path;
+
+    // 메일 종류
+    @Param({"PARTNER_VERIFICATION", "PARTNER_APPROVED", "PARTNER_REJECTED"})
+    private String mailType;
+
+    private EmailRenderer emailRenderer;
+    private MailType type;
+    private Map<String, String> variables;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EmailConfig emailConfig = new EmailConfig();
+        SpringTemplateEngine templateEngine = emailConfig.templateEngine(emailConfig.emailTemplateResolver());
+
+        EmailProperties props = new EmailProperties();
+        props.setPartnerVerificationSubject("Ready to Marry Verification(Partner)");
+        props.setPartnerApprovedSubject("Ready to Marry Approved(Partner)");
+        props.setPartnerRejectedSubject("Ready to Marry Rejected(Partner)");
+        props.getTemplates().setPartnerVerification("partner-verification.html");
+        props.getTemplates().setPartnerApproved("partner-approved.html");
+        props.getTemplates().setPartnerRejected("partner-rejected.html");
+        props.setPrerender("PRERENDERED".equals(path));
+
+        emailRenderer = new EmailRenderer(templateEngine, props);
+        emailRenderer.init();
+
+        type = MailType.valueOf(mailType);
+        variables = switch (type) {
+            case PARTNER_VERIFICATION -> Map.of("link", "https://example.com/auth-service/auth/partners/verify?token=7c1d9e2f-3a4b-4c5d-8e6f-0a1b2c3d4e5f");
+            case PARTNER_APPROVED -> Map.of();
+            case PARTNER_REJECTED -> Map.of("reason", "사업자 등록 정보가 확인되지 않습니다.");
+        };
+    }
+
+    @Benchmark
+    public EmailRenderer.RenderedMail render() {
+        return emailRenderer.render(type, variables);
+    }
+}
@@ -0,0 +1,26 @@
+package ready_to_marry.authservice.account.cache;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 계정 변경 사실을 모든 auth-service 노드에 전파하는 채널
+ *
+ * - 발행한 노드 자신을 포함한 모든 구독자에게 전달
+ * - 전달 실패 시 로컬 캐시 TTL이 최대 지연 시간
+ */
+public interface AccountInvalidationBus {
+    /**
+     * 변경된 계정 전파
+     *
+     * @param accountId 변경된 계정의 UUID
+     */
+    void publish(UUID accountId);
+
+    /**
+     * 변경 알림 구독
+     *
+     * @param listener 변경된 accountId를 받는 리스너
+     */
+    void subscribe(Consumer<UUID> listener);
+}
@@ -0,0 +1,30 @@
+package ready_to_marry.authservice.account.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import ready_to_marry.authservice.common.enums.AccountStatus;
+import ready_to_marry.authservice.common.enums.AdminRole;
+import ready_to_marry.authservice.common.enums.Role;
+
+import java.util.UUID;
+
+/**
+ * 리프레시(Access Token 재발급)에 필요한 AuthAccount 필드만 담은 불변 스냅샷
+ *
+ * - 영속성 컨텍스트와 분리되어 있어 로컬 캐시에 보관해도 안전
+ * - 비밀번호 해시·loginId 등 자격 증명은 담지 않음 (로그인은 LoginAccount를 캐시 없이 조회)
+ * - AuthAccountRepository의 JPQL 생성자 프로젝션 대상 (필드 순서 = 생성자 인자 순서)
+ */
+@Value
+@Builder
+@AllArgsConstructor
+public class AccountSnapshot {
+    UUID accountId;
+    Role role;
+    AdminRole adminRole;
+    Long userId;
+    Long partnerId;
+    Long adminId;
+    AccountStatus status;
+}
@@ -0,0 +1,120 @@
+package ready_to_marry.authservice.account.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ready_to_marry.authservice.account.config.AccountCacheProperties;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * AccountSnapshot 로컬 캐시 (노드 단위 near-cache, 리프레시 경로 전용)
+ *
+ * - accountId → 스냅샷 Caffeine 캐시 (크기 + TTL 기반 제거), 자격 증명(비밀번호 해시·loginId)은 보관하지 않음
+ * - 계정 변경 시 로컬은 즉시 + 트랜잭션 종료 후 한 번 더 제거, 종료 후 AccountInvalidationBus로 전체 노드(자신 포함)에 전파
+ * - 키별 세대(generation)를 적재 전후로 비교하여 적재 도중 제거된 키는 캐시하지 않음
+ *   (커밋 전 값을 읽은 적재가 커밋 후 제거보다 늦게 put하는 경합 방지)
+ * - 노드 간 전파는 at-most-once이므로 메시지 유실 시 TTL이 다른 노드의 최대 반영 지연 시간
+ * - 조회되지 않은 계정(empty)은 캐시하지 않음
+ */
+@Component
+public class AccountSnapshotCache {
+    // 세대 카운터 스트라이프 수 (키 수와 무관한 고정 메모리, 같은 스트라이프의 다른 키 제거 시 해당 적재만 캐시 생략)
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final AccountCacheProperties props;
+    private final Cache<UUID, AccountSnapshot> byId;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AccountInvalidationBus invalidationBus;
+
+    public AccountSnapshotCache(AccountCacheProperties props,
+                                MeterRegistry meterRegistry,
+                                AccountInvalidationBus invalidationBus) {
+        this.props = props;
+        this.invalidationBus = invalidationBus;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(props.getMaximumSize())
+                .expireAfterWrite(props.getTtl())
+                .recordStats()
+                .build();
+
+        // hit/miss/eviction 지표 (auth.account.snapshot)
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "auth.account.snapshot");
+
+        // 다른 노드에서 발행한 변경 알림 수신 시 로컬 제거
+        invalidationBus.subscribe(this::evict);
+    }
+
+    /**
+     * accountId로 스냅샷 조회 (없으면 loader로 적재)
+     *
+     * @param accountId 계정의 UUID
+     * @param loader    캐시 미스 시 DB 조회 함수
+     * @return AccountSnapshot이 담긴 Optional
+     */
+    public Optional<AccountSnapshot> getById(UUID accountId, Function<UUID, Optional<AccountSnapshot>> loader) {
+        if (!props.isEnabled()) {
+            return loader.apply(accountId);
+        }
+
+        AccountSnapshot cached = byId.getIfPresent(accountId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // 1) 적재 시작 시점의 세대 기록
+        int stripe = stripe(accountId);
+        long generation = generations.get(stripe);
+
+        // 2) DB 조회 후 그 사이 제거가 없었을 때만 캐시 (세대 비교와 put을 같은 compute 안에서 수행)
+        Optional<AccountSnapshot> loaded = loader.apply(accountId);
+        loaded.ifPresent(snapshot -> byId.asMap().compute(accountId,
+                (key, current) -> generations.get(stripe) == generation ? snapshot : current));
+        return loaded;
+    }
+
+    /**
+     * 계정 변경 시 캐시 제거 (로컬 즉시 + 트랜잭션 종료 후 로컬 재제거·전체 노드 전파)
+     *
+     * @param accountId 변경된 계정의 UUID
+     */
+    public void invalidate(UUID accountId) {
+        evict(accountId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidationBus.publish(accountId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // 커밋 전 값을 읽어 적재된 항목 제거 (전파 메시지 유실과 무관하게 로컬은 보장)
+                evict(accountId);
+                invalidationBus.publish(accountId);
+            }
+        });
+    }
+
+    /**
+     * 로컬 캐시에서만 즉시 제거
+     *
+     * @param accountId 제거할 계정의 UUID
+     */
+    public void evict(UUID accountId) {
+        // 세대를 먼저 올려 진행 중인 적재가 이전 값을 put하지 못하도록 함
+        generations.incrementAndGet(stripe(accountId));
+        byId.invalidate(accountId);
+    }
+
+    private static int stripe(UUID accountId) {
+        return Math.floorMod(accountId.hashCode(), GENERATION_STRIPES);
+    }
+}
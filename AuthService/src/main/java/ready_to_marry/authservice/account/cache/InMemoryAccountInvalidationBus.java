@@ -0,0 +1,31 @@
+package ready_to_marry.authservice.account.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드(로컬 개발·테스트)용 인메모리 무효화 채널
+ *
+ * - auth.account-cache.invalidation-bus=in-memory 일 때 사용
+ * - 같은 JVM 안의 구독자에게만 동기 전달
+ */
+@Component
+@ConditionalOnProperty(name = "auth.account-cache.invalidation-bus", havingValue = "in-memory")
+public class InMemoryAccountInvalidationBus implements AccountInvalidationBus {
+    private final List<Consumer<UUID>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(UUID accountId) {
+        listeners.forEach(listener -> listener.accept(accountId));
+    }
+
+    @Override
+    public void subscribe(Consumer<UUID> listener) {
+        listeners.add(listener);
+    }
+}
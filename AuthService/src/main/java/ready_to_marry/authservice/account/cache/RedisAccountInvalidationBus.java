@@ -0,0 +1,60 @@
+package ready_to_marry.authservice.account.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import ready_to_marry.authservice.account.config.AccountCacheProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 무효화 채널 (기본값)
+ *
+ * - 기존 Sentinel 커넥션으로 PUBLISH, 공용 RedisMessageListenerContainer로 SUBSCRIBE
+ * - 메시지 본문은 accountId 문자열
+ * - 발행 실패는 로그만 남기고 진행 (다른 노드는 로컬 캐시 TTL 이내에 반영)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.account-cache.invalidation-bus", havingValue = "redis", matchIfMissing = true)
+public class RedisAccountInvalidationBus implements AccountInvalidationBus {
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+
+    public RedisAccountInvalidationBus(StringRedisTemplate redisTemplate,
+                                       RedisMessageListenerContainer listenerContainer,
+                                       AccountCacheProperties props) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.topic = new ChannelTopic(props.getInvalidationChannel());
+    }
+
+    @Override
+    public void publish(UUID accountId) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), accountId.toString());
+        } catch (DataAccessException ex) {
+            log.warn("Account invalidation publish failed: identifierType=accountId, identifierValue={}", accountId, ex);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<UUID> listener) {
+        listenerContainer.addMessageListener((Message message, byte[] pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                listener.accept(UUID.fromString(body));
+            } catch (IllegalArgumentException ex) {
+                log.warn("Malformed account invalidation message ignored: {}", body);
+            }
+        }, topic);
+    }
+}
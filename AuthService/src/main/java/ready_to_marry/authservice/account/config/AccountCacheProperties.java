@@ -0,0 +1,32 @@
+package ready_to_marry.authservice.account.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 auth.account-cache.* 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.account-cache")
+public class AccountCacheProperties {
+    // 로컬 계정 캐시 사용 여부 (false면 항상 DB 조회)
+    private boolean enabled = true;
+
+    // 최대 캐시 항목 수 (초과 시 사용 빈도 기준 제거)
+    private long maximumSize = 10_000;
+
+    // 적재 후 만료 시간 (다른 노드의 변경이 늦게 반영되는 최대 시간)
+    private Duration ttl = Duration.ofSeconds(60);
+
+    // 노드 간 무효화 채널 (redis: Redis pub/sub, in-memory: 단일 노드/테스트)
+    private String invalidationBus = "redis";
+
+    // Redis pub/sub 채널 이름
+    private String invalidationChannel = "auth:account-invalidation";
+}
@@ -14,6 +14,7 @@ import java.util.UUID;
 
 /**
  * auth_db.auth_account 테이블 매핑 엔티티
+ * - 스키마·인덱스는 db/migration(Flyway)이 관리 (부분 인덱스 포함)
  */
 @Entity
 @Getter
@@ -21,7 +22,11 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "auth_account", uniqueConstraints = @UniqueConstraint(columnNames = "login_id"))
+@Table(
+        name = "auth_account",
+        uniqueConstraints = @UniqueConstraint(name = "uk_auth_account_login_id", columnNames = "login_id"),
+        indexes = @Index(name = "idx_auth_account_role_status_created_id", columnList = "role, status, created_at, account_id")
+)
 public class AuthAccount {
     // PK (UUID 자동 생성)
     @Id
@@ -39,8 +44,8 @@ public class AuthAccount {
     @Column(name = "login_id", length = 255, nullable = false, unique = true)
     private String loginId;
 
-    // 비밀번호 (USER: NULL / PARTNER, ADMIN: 암호화해서 저장)
-    @Column(name = "password", length = 100)
+    // 비밀번호 (USER: NULL / PARTNER, ADMIN: {알고리즘} 접두어 + 해시, 접두어 없는 기존 값은 BCrypt)
+    @Column(name = "password", length = 255)
     private String password;
 
     // 역할 (USER / PARTNER / ADMIN)
@@ -23,7 +23,10 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "withdrawal_history")
+@Table(
+        name = "withdrawal_history",
+        indexes = @Index(name = "idx_withdrawal_history_account_id", columnList = "account_id")
+)
 public class WithdrawalHistory {
     // PK (자동 생성)
     @Id
@@ -0,0 +1,14 @@
+package ready_to_marry.authservice.account.repository;
+
+import java.util.UUID;
+
+/**
+ * 일괄 승인된 계정의 식별자 (UPDATE ... RETURNING 결과)
+ */
+public interface ApprovedAccount {
+    // 승인된 계정의 UUID
+    UUID getAccountId();
+
+    // 승인 안내 메일 수신 주소 (PARTNER: 이메일)
+    String getLoginId();
+}
@@ -1,13 +1,21 @@
 package ready_to_marry.authservice.account.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ready_to_marry.authservice.account.cache.AccountSnapshot;
 import ready_to_marry.authservice.account.entity.AuthAccount;
 import ready_to_marry.authservice.common.enums.AccountStatus;
 import ready_to_marry.authservice.common.enums.Role;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,6 +24,16 @@ import java.util.UUID;
  */
 @Repository
 public interface AuthAccountRepository extends JpaRepository<AuthAccount, UUID> {
+    // LoginAccount 생성자 프로젝션 (created_at 등 로그인에 불필요한 컬럼 제외)
+    String LOGIN_SELECT = "select new ready_to_marry.authservice.account.repository.LoginAccount(" +
+            "a.accountId, a.authMethod, a.loginId, a.password, a.role, a.adminRole, a.userId, a.partnerId, a.adminId, a.status) " +
+            "from AuthAccount a ";
+
+    // AccountSnapshot 생성자 프로젝션 (리프레시에 필요한 컬럼만, 자격 증명 제외)
+    String SNAPSHOT_SELECT = "select new ready_to_marry.authservice.account.cache.AccountSnapshot(" +
+            "a.accountId, a.role, a.adminRole, a.userId, a.partnerId, a.adminId, a.status) " +
+            "from AuthAccount a ";
+
     /**
      * 로그인 ID로 계정 조회
      *
@@ -24,6 +42,25 @@ public interface AuthAccountRepository extends JpaRepository<AuthAccount, UUID>
      */
     Optional<AuthAccount> findByLoginId(String loginId);
 
+    /**
+     * 로그인 ID로 로그인에 필요한 컬럼만 조회 (엔티티 미적재)
+     * - 생성자 프로젝션 결과는 관리 엔티티가 아니므로 영속성 컨텍스트·dirty checking 스냅샷이 생기지 않음 (read-only 힌트 불필요)
+     *
+     * @param loginId USER: 소셜 식별자, PARTNER: 이메일, ADMIN: 아이디
+     * @return Optional.empty()이면 미존재
+     */
+    @Query(LOGIN_SELECT + "where a.loginId = :loginId")
+    Optional<LoginAccount> findLoginAccountByLoginId(@Param("loginId") String loginId);
+
+    /**
+     * accountId로 리프레시에 필요한 컬럼만 조회 (엔티티 미적재)
+     *
+     * @param accountId 계정의 UUID
+     * @return Optional.empty()이면 미존재
+     */
+    @Query(SNAPSHOT_SELECT + "where a.accountId = :accountId")
+    Optional<AccountSnapshot> findSnapshotById(@Param("accountId") UUID accountId);
+
     /**
      * 특정 역할이면서 특정 상태인 계정을 생성 시각 오름차순으로 페이징 조회
      *
@@ -33,4 +70,104 @@ public interface AuthAccountRepository extends JpaRepository<AuthAccount, UUID>
      * @return 지정된 role과 status를 만족하며 createdAt 오름차순 정렬된 페이징 결과
      */
     Page<AuthAccount> findAllByRoleAndStatusOrderByCreatedAtAsc(Role role, AccountStatus status, Pageable pageable);
+
+    /**
+     * 특정 역할·상태 계정의 keyset 첫 페이지 (COUNT 쿼리 없음)
+     *
+     * @param role     조회할 계정의 역할
+     * @param status   조회할 계정의 상태
+     * @param pageable 조회 건수 (page는 항상 0)
+     * @return (createdAt, accountId) 오름차순 정렬된 목록
+     */
+    List<AuthAccount> findByRoleAndStatusOrderByCreatedAtAscAccountIdAsc(Role role, AccountStatus status, Pageable pageable);
+
+    /**
+     * 특정 역할·상태 계정 중 (createdAt, accountId) 커서 이후 페이지 (COUNT 쿼리 없음)
+     * idx_auth_account_role_status_created_id 인덱스 범위 조회로 깊은 페이지도 일정한 비용
+     *
+     * @param role      조회할 계정의 역할
+     * @param status    조회할 계정의 상태
+     * @param createdAt 직전 페이지 마지막 항목의 생성 시각
+     * @param accountId 직전 페이지 마지막 항목의 UUID
+     * @param limit     조회 건수
+     * @return (createdAt, accountId) 오름차순 정렬된 목록
+     */
+    @Query(value = "select * from auth_account " +
+            "where role = :role and status = :status " +
+            "and (created_at, account_id) > (:createdAt, :accountId) " +
+            "order by created_at, account_id " +
+            "limit :limit", nativeQuery = true)
+    List<AuthAccount> findByRoleAndStatusAfter(@Param("role") String role,
+                                               @Param("status") String status,
+                                               @Param("createdAt") OffsetDateTime createdAt,
+                                               @Param("accountId") UUID accountId,
+                                               @Param("limit") int limit);
+
+    /**
+     * 저장된 비밀번호 해시가 기대값과 같을 때만 새 해시로 교체
+     *
+     * @param accountId       계정의 UUID
+     * @param currentPassword 기대하는 현재 해시
+     * @param newPassword     새 해시
+     * @return 변경된 행 수 (0이면 그 사이 비밀번호가 바뀌었거나 계정 없음)
+     */
+    @Modifying
+    @Query("update AuthAccount a set a.password = :newPassword where a.accountId = :accountId and a.password = :currentPassword")
+    int updatePasswordIfMatches(@Param("accountId") UUID accountId,
+                                @Param("currentPassword") String currentPassword,
+                                @Param("newPassword") String newPassword);
+
+    /**
+     * 생성 시각이 기준 시각 이전인 이메일 미인증(WAITING_EMAIL_VERIFICATION) 계정을 최대 limit건 일괄 삭제
+     * - idx_auth_account_waiting_email_created 부분 인덱스 범위 조회
+     * - SKIP LOCKED: 가입 재시도 등으로 잠긴 행은 건너뛰고 다음 실행에서 처리
+     * - 삭제된 행의 partnerId가 필요하므로 @Modifying(행 수만 반환) 없이 DELETE ... RETURNING을 조회 쿼리로 실행
+     *   (트랜잭션은 AccountService.deleteExpiredUnverified)
+     *
+     * @param cutoff 이 시각 이전에 생성된 계정만 삭제
+     * @param limit  한 번에 삭제할 최대 건수
+     * @return 삭제된 계정의 accountId, partnerId
+     */
+    @Query(value = "delete from auth_account where account_id in (" +
+            "select account_id from auth_account " +
+            "where status = 'WAITING_EMAIL_VERIFICATION' and created_at < :cutoff " +
+            "order by created_at, account_id " +
+            "limit :limit for update skip locked) " +
+            "returning account_id as accountId, partner_id as partnerId", nativeQuery = true)
+    List<PurgedAccount> deleteExpiredUnverified(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * 지정된 계정 중 관리자 승인 대기(PENDING_ADMIN_APPROVAL) 파트너만 ACTIVE로 일괄 변경 (UPDATE 1회)
+     * - 상태 조건을 UPDATE 조건에 포함하여 그 사이 처리된 계정은 건너뜀
+     * - 승인된 계정의 loginId(메일 주소)가 필요하므로 UPDATE ... RETURNING을 조회 쿼리로 실행 (트랜잭션은 AccountService.approvePendingPartners)
+     *
+     * @param accountIds 승인할 계정 UUID 목록
+     * @return 승인된 계정의 accountId, loginId
+     */
+    @Query(value = "update auth_account set status = 'ACTIVE' " +
+            "where account_id in (:accountIds) and role = 'PARTNER' and status = 'PENDING_ADMIN_APPROVAL' " +
+            "returning account_id as accountId, login_id as loginId", nativeQuery = true)
+    List<ApprovedAccount> approvePendingPartners(@Param("accountIds") List<UUID> accountIds);
+
+    /**
+     * 지정된 계정 중 특정 역할·상태인 계정을 쓰기 잠금(SELECT ... FOR UPDATE) 후 조회
+     * - 호출한 트랜잭션이 끝날 때까지 다른 승인/거부 요청이 같은 계정을 처리하지 못함
+     *
+     * @param accountIds 조회할 계정 UUID 목록
+     * @param role       조회할 계정의 역할
+     * @param status     조회할 계정의 상태
+     * @return 잠금된 계정 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<AuthAccount> findAllByAccountIdInAndRoleAndStatus(List<UUID> accountIds, Role role, AccountStatus status);
+
+    /**
+     * 지정된 계정 일괄 삭제 (DELETE 1회)
+     *
+     * @param accountIds 삭제할 계정 UUID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from AuthAccount a where a.accountId in :accountIds")
+    int deleteAllByAccountIds(@Param("accountIds") List<UUID> accountIds);
 }
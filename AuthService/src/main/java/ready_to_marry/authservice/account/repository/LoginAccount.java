@@ -0,0 +1,50 @@
+package ready_to_marry.authservice.account.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import ready_to_marry.authservice.account.entity.AuthAccount;
+import ready_to_marry.authservice.common.enums.AccountStatus;
+import ready_to_marry.authservice.common.enums.AdminRole;
+import ready_to_marry.authservice.common.enums.AuthMethod;
+import ready_to_marry.authservice.common.enums.Role;
+
+import java.util.UUID;
+
+/**
+ * 로그인에 필요한 AuthAccount 필드만 담은 불변 프로젝션
+ *
+ * - 비밀번호 해시·loginId를 포함하므로 캐시하지 않고 로그인마다 DB에서 조회
+ * - AuthAccountRepository의 JPQL 생성자 프로젝션 대상 (필드 순서 = 생성자 인자 순서)
+ */
+@Value
+@Builder
+@AllArgsConstructor
+public class LoginAccount {
+    UUID accountId;
+    AuthMethod authMethod;
+    String loginId;
+    // 암호화된 비밀번호 (USER는 null)
+    String password;
+    Role role;
+    AdminRole adminRole;
+    Long userId;
+    Long partnerId;
+    Long adminId;
+    AccountStatus status;
+
+    public static LoginAccount from(AuthAccount account) {
+        return LoginAccount.builder()
+                .accountId(account.getAccountId())
+                .authMethod(account.getAuthMethod())
+                .loginId(account.getLoginId())
+                .password(account.getPassword())
+                .role(account.getRole())
+                .adminRole(account.getAdminRole())
+                .userId(account.getUserId())
+                .partnerId(account.getPartnerId())
+                .adminId(account.getAdminId())
+                .status(account.getStatus())
+                .build();
+    }
+}
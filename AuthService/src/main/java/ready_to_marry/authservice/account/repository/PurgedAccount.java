@@ -0,0 +1,14 @@
+package ready_to_marry.authservice.account.repository;
+
+import java.util.UUID;
+
+/**
+ * 일괄 삭제된 계정의 식별자 (DELETE ... RETURNING 결과)
+ */
+public interface PurgedAccount {
+    // 삭제된 계정의 UUID
+    UUID getAccountId();
+
+    // partner_service 연동 ID (프로필 저장 전 실패한 가입이면 null)
+    Long getPartnerId();
+}
@@ -2,10 +2,16 @@ package ready_to_marry.authservice.account.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import ready_to_marry.authservice.account.cache.AccountSnapshot;
 import ready_to_marry.authservice.account.entity.AuthAccount;
+import ready_to_marry.authservice.account.repository.ApprovedAccount;
+import ready_to_marry.authservice.account.repository.LoginAccount;
+import ready_to_marry.authservice.account.repository.PurgedAccount;
 import ready_to_marry.authservice.common.enums.AccountStatus;
 import ready_to_marry.authservice.common.enums.Role;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,6 +35,22 @@ public interface AccountService {
      */
     Optional<AuthAccount> findById(UUID accountId);
 
+    /**
+     * loginId로 로그인용 계정 조회 (비밀번호 해시를 포함하므로 캐시 없이 DB 조회)
+     *
+     * @param loginId 로그인 식별자
+     * @return LoginAccount가 담긴 Optional
+     */
+    Optional<LoginAccount> findLoginAccount(String loginId);
+
+    /**
+     * accountId로 계정 스냅샷 조회 (로컬 캐시 우선)
+     *
+     * @param accountId 계정의 UUID
+     * @return AccountSnapshot이 담긴 Optional
+     */
+    Optional<AccountSnapshot> findSnapshotById(UUID accountId);
+
     /**
      * 신규 계정 생성
      *
@@ -70,6 +92,16 @@ public interface AccountService {
      */
     void updateStatus(UUID accountId, AccountStatus status);
 
+    /**
+     * 비밀번호 해시 교체 (저장된 해시가 currentPassword와 같을 때만)
+     *
+     * @param accountId 계정의 UUID
+     * @param currentPassword 기대하는 현재 해시
+     * @param newPassword 새 해시
+     * @return 교체 여부
+     */
+    boolean updatePassword(UUID accountId, String currentPassword, String newPassword);
+
     /**
      * 지정된 계정 삭제
      *
@@ -86,4 +118,57 @@ public interface AccountService {
      * @return 조회된 Page<AuthAccount>
      */
     Page<AuthAccount> findByRoleAndStatus(Role role, AccountStatus status, Pageable pageable);
+
+    /**
+     * 지정된 역할(role) + 상태(status)를 가진 계정을 (생성 시각, accountId) 오름차순으로 keyset 조회
+     *
+     * @param role 조회할 역할
+     * @param status 조회할 계정 상태
+     * @param afterCreatedAt 직전 페이지 마지막 항목의 생성 시각 (null이면 첫 페이지)
+     * @param afterAccountId 직전 페이지 마지막 항목의 UUID (null이면 첫 페이지)
+     * @param limit 조회 건수
+     * @return 조회된 List<AuthAccount>
+     */
+    List<AuthAccount> findByRoleAndStatusAfter(Role role, AccountStatus status, OffsetDateTime afterCreatedAt, UUID afterAccountId, int limit);
+
+    /**
+     * 생성 시각이 기준 시각 이전인 이메일 미인증 계정을 최대 limit건 일괄 삭제 (삭제된 계정 캐시 무효화)
+     *
+     * @param cutoff 이 시각 이전에 생성된 계정만 삭제
+     * @param limit 한 번에 삭제할 최대 건수
+     * @return 삭제된 계정의 accountId, partnerId 목록
+     */
+    List<PurgedAccount> deleteExpiredUnverified(OffsetDateTime cutoff, int limit);
+
+    /**
+     * accountId 목록으로 계정 일괄 조회
+     *
+     * @param accountIds 조회할 계정 UUID 목록
+     * @return 존재하는 계정 목록 (순서 보장 없음)
+     */
+    List<AuthAccount> findAllById(List<UUID> accountIds);
+
+    /**
+     * 관리자 승인 대기 중인 파트너 계정을 ACTIVE로 일괄 변경 (승인된 계정 캐시 무효화)
+     *
+     * @param accountIds 승인할 계정 UUID 목록
+     * @return 승인된 계정의 accountId, loginId 목록
+     */
+    List<ApprovedAccount> approvePendingPartners(List<UUID> accountIds);
+
+    /**
+     * 관리자 승인 대기 중인 파트너 계정을 쓰기 잠금 후 조회 (호출한 트랜잭션 안에서만 사용)
+     *
+     * @param accountIds 조회할 계정 UUID 목록
+     * @return 잠금된 계정 목록
+     */
+    List<AuthAccount> lockPendingPartners(List<UUID> accountIds);
+
+    /**
+     * 지정된 계정 일괄 삭제 (삭제된 계정 캐시 무효화)
+     *
+     * @param accountIds 삭제할 계정 UUID 목록
+     * @return 삭제된 행 수
+     */
+    int deleteAllById(List<UUID> accountIds);
 }
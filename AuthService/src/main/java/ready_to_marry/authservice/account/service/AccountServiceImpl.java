@@ -3,14 +3,22 @@ package ready_to_marry.authservice.account.service;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ready_to_marry.authservice.account.cache.AccountSnapshot;
+import ready_to_marry.authservice.account.cache.AccountSnapshotCache;
 import ready_to_marry.authservice.account.entity.AuthAccount;
+import ready_to_marry.authservice.account.repository.ApprovedAccount;
 import ready_to_marry.authservice.account.repository.AuthAccountRepository;
+import ready_to_marry.authservice.account.repository.LoginAccount;
+import ready_to_marry.authservice.account.repository.PurgedAccount;
 import ready_to_marry.authservice.common.enums.AccountStatus;
 import ready_to_marry.authservice.common.enums.Role;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,6 +26,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 class AccountServiceImpl implements AccountService {
     private final AuthAccountRepository authAccountRepository;
+    private final AccountSnapshotCache accountSnapshotCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -31,10 +40,26 @@ class AccountServiceImpl implements AccountService {
         return authAccountRepository.findById(accountId);
     }
 
+    @Override
+    public Optional<LoginAccount> findLoginAccount(String loginId) {
+        // 자격 증명은 노드 힙에 캐시하지 않음, 엔티티 대신 필요한 컬럼만 프로젝션 조회
+        return authAccountRepository.findLoginAccountByLoginId(loginId);
+    }
+
+    @Override
+    public Optional<AccountSnapshot> findSnapshotById(UUID accountId) {
+        // 캐시 히트 시 트랜잭션/커넥션 없이 반환
+        // 캐시 미스 시 엔티티 대신 필요한 컬럼만 프로젝션 조회
+        return accountSnapshotCache.getById(accountId,
+                authAccountRepository::findSnapshotById);
+    }
+
     @Override
     @Transactional
     public AuthAccount save(AuthAccount account) {
-        return authAccountRepository.save(account);
+        AuthAccount saved = authAccountRepository.save(account);
+        accountSnapshotCache.invalidate(saved.getAccountId());
+        return saved;
     }
 
     @Override
@@ -44,6 +69,7 @@ class AccountServiceImpl implements AccountService {
                 .orElseThrow(() -> new EntityNotFoundException("Account(" + accountId + ") not found"));
 
         account.setAdminId(adminId);
+        accountSnapshotCache.invalidate(accountId);
     }
 
     @Override
@@ -53,6 +79,7 @@ class AccountServiceImpl implements AccountService {
                 .orElseThrow(() -> new EntityNotFoundException("Account(" + accountId + ") not found"));
 
         account.setPartnerId(partnerId);
+        accountSnapshotCache.invalidate(accountId);
     }
 
     @Override
@@ -62,6 +89,7 @@ class AccountServiceImpl implements AccountService {
                 .orElseThrow(() -> new EntityNotFoundException("Account(" + accountId + ") not found"));
         account.setUserId(userId);
         account.setStatus(status);
+        accountSnapshotCache.invalidate(accountId);
     }
 
     @Override
@@ -71,12 +99,24 @@ class AccountServiceImpl implements AccountService {
                 .orElseThrow(() -> new EntityNotFoundException("Account(" + accountId + ") not found"));
 
         account.setStatus(status);
+        accountSnapshotCache.invalidate(accountId);
+    }
+
+    @Override
+    @Transactional
+    public boolean updatePassword(UUID accountId, String currentPassword, String newPassword) {
+        boolean updated = authAccountRepository.updatePasswordIfMatches(accountId, currentPassword, newPassword) > 0;
+        if (updated) {
+            accountSnapshotCache.invalidate(accountId);
+        }
+        return updated;
     }
 
     @Override
     @Transactional
     public void deleteById(UUID accountId) {
         authAccountRepository.deleteById(accountId);
+        accountSnapshotCache.invalidate(accountId);
     }
 
     @Override
@@ -84,4 +124,49 @@ class AccountServiceImpl implements AccountService {
     public Page<AuthAccount> findByRoleAndStatus(Role role, AccountStatus status, Pageable pageable) {
         return authAccountRepository.findAllByRoleAndStatusOrderByCreatedAtAsc(role, status, pageable);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuthAccount> findByRoleAndStatusAfter(Role role, AccountStatus status, OffsetDateTime afterCreatedAt, UUID afterAccountId, int limit) {
+        if (afterCreatedAt == null || afterAccountId == null) {
+            return authAccountRepository.findByRoleAndStatusOrderByCreatedAtAscAccountIdAsc(role, status, PageRequest.of(0, limit));
+        }
+        return authAccountRepository.findByRoleAndStatusAfter(role.name(), status.name(), afterCreatedAt, afterAccountId, limit);
+    }
+
+    @Override
+    @Transactional
+    public List<PurgedAccount> deleteExpiredUnverified(OffsetDateTime cutoff, int limit) {
+        List<PurgedAccount> purged = authAccountRepository.deleteExpiredUnverified(cutoff, limit);
+        purged.forEach(account -> accountSnapshotCache.invalidate(account.getAccountId()));
+        return purged;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuthAccount> findAllById(List<UUID> accountIds) {
+        return authAccountRepository.findAllById(accountIds);
+    }
+
+    @Override
+    @Transactional
+    public List<ApprovedAccount> approvePendingPartners(List<UUID> accountIds) {
+        List<ApprovedAccount> approved = authAccountRepository.approvePendingPartners(accountIds);
+        approved.forEach(account -> accountSnapshotCache.invalidate(account.getAccountId()));
+        return approved;
+    }
+
+    @Override
+    @Transactional
+    public List<AuthAccount> lockPendingPartners(List<UUID> accountIds) {
+        return authAccountRepository.findAllByAccountIdInAndRoleAndStatus(accountIds, Role.PARTNER, AccountStatus.PENDING_ADMIN_APPROVAL);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllById(List<UUID> accountIds) {
+        int deleted = authAccountRepository.deleteAllByAccountIds(accountIds);
+        accountIds.forEach(accountSnapshotCache::invalidate);
+        return deleted;
+    }
 }
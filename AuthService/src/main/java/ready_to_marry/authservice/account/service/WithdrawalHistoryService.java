@@ -2,6 +2,8 @@ package ready_to_marry.authservice.account.service;
 
 import ready_to_marry.authservice.account.entity.WithdrawalHistory;
 
+import java.util.List;
+
 public interface WithdrawalHistoryService {
     /**
      * 탈퇴·거부 이력 기록
@@ -9,4 +11,11 @@ public interface WithdrawalHistoryService {
      * @param history 저장할 WithdrawalHistory 엔티티
      */
     void save(WithdrawalHistory history);
+
+    /**
+     * 탈퇴·거부 이력 일괄 기록
+     *
+     * @param histories 저장할 WithdrawalHistory 엔티티 목록
+     */
+    void saveAll(List<WithdrawalHistory> histories);
 }
@@ -6,6 +6,8 @@ import org.springframework.transaction.annotation.Transactional;
 import ready_to_marry.authservice.account.entity.WithdrawalHistory;
 import ready_to_marry.authservice.account.repository.WithdrawalHistoryRepository;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class WithdrawalHistoryServiceImpl implements WithdrawalHistoryService {
@@ -16,4 +18,10 @@ public class WithdrawalHistoryServiceImpl implements WithdrawalHistoryService {
     public void save(WithdrawalHistory history) {
         withdrawalHistoryRepository.save(history);
     }
+
+    @Override
+    @Transactional
+    public void saveAll(List<WithdrawalHistory> histories) {
+        withdrawalHistoryRepository.saveAll(histories);
+    }
 }
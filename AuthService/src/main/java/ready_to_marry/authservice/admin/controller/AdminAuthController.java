@@ -1,5 +1,6 @@
 package ready_to_marry.authservice.admin.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,8 +12,11 @@ import org.springframework.web.bind.annotation.RestController;
 import ready_to_marry.authservice.admin.dto.request.AdminLoginRequest;
 import ready_to_marry.authservice.admin.dto.request.AdminSignupRequest;
 import ready_to_marry.authservice.admin.service.AdminAuthService;
+import ready_to_marry.authservice.common.config.RateLimitProperties;
 import ready_to_marry.authservice.common.dto.response.ApiResponse;
 import ready_to_marry.authservice.common.dto.response.JwtResponse;
+import ready_to_marry.authservice.common.ratelimit.LoginRateLimiter;
+import ready_to_marry.authservice.common.util.ClientIpUtil;
 
 /**
  * 관리자 인증·회원가입을 처리하는 컨트롤러
@@ -22,6 +26,8 @@ import ready_to_marry.authservice.common.dto.response.JwtResponse;
 @RequiredArgsConstructor
 public class AdminAuthController {
     private final AdminAuthService adminAuthService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final RateLimitProperties rateLimitProperties;
 
     /**
      * 관리자 계정 사전 등록 (ROLE_SUPER_ADMIN 권한 필요)
@@ -48,10 +54,14 @@ public class AdminAuthController {
      * 관리자 로그인
      *
      * @param request 로그인 요청 (loginId, password)
+     * @param httpRequest 클라이언트 IP 추출용 요청 (X-Forwarded-For)
      * @return access/refresh 토큰 정보
      */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<JwtResponse>> login(@Valid @RequestBody AdminLoginRequest request) {
+    public ResponseEntity<ApiResponse<JwtResponse>> login(@Valid @RequestBody AdminLoginRequest request, HttpServletRequest httpRequest) {
+        // 로그인 시도 제한 (계정 조회·비밀번호 검증 전에 차단)
+        loginRateLimiter.check("admin", request.getLoginId(), ClientIpUtil.resolve(httpRequest, rateLimitProperties.getTrustedProxies()));
+
         // 로그인 -> 토큰 생성 및 Redis 저장
         JwtResponse tokens = adminAuthService.login(request);
 
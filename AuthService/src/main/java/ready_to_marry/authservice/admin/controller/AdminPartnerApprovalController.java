@@ -6,11 +6,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import ready_to_marry.authservice.admin.dto.request.PartnerBulkApprovalRequest;
+import ready_to_marry.authservice.admin.dto.request.PartnerBulkRejectionRequest;
 import ready_to_marry.authservice.admin.dto.request.PartnerRejectionRequest;
+import ready_to_marry.authservice.admin.dto.response.PartnerBulkResult;
 import ready_to_marry.authservice.admin.dto.response.PartnerPendingResponse;
 import ready_to_marry.authservice.admin.service.PartnerApprovalService;
+import ready_to_marry.authservice.common.dto.request.CursorPagingRequest;
 import ready_to_marry.authservice.common.dto.request.PagingRequest;
 import ready_to_marry.authservice.common.dto.response.ApiResponse;
+import ready_to_marry.authservice.common.dto.response.CursorPage;
 import ready_to_marry.authservice.common.dto.response.Meta;
 
 import java.util.List;
@@ -66,6 +71,48 @@ public class AdminPartnerApprovalController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 슈퍼관리자가 여러 파트너 계정을 일괄 승인 (ROLE_SUPER_ADMIN 권한 필요)
+     * - 처리할 수 없는 계정이 있어도 나머지는 승인하고 항목별 결과로 응답
+     *
+     * @param request 관리자 파트너 일괄 승인 요청 정보 (accountIds)
+     * @return 성공 시 code=0, data=요청 순서대로 항목별 처리 결과
+     */
+    @PostMapping("/approvals")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<List<PartnerBulkResult>>> approvePartners(@Valid @RequestBody PartnerBulkApprovalRequest request) {
+        List<PartnerBulkResult> results = partnerApprovalService.approvePartners(request);
+
+        ApiResponse<List<PartnerBulkResult>> response = ApiResponse.<List<PartnerBulkResult>>builder()
+                .code(0)
+                .message("Partner bulk approval processed")
+                .data(results)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 슈퍼관리자가 여러 파트너 계정을 같은 사유로 일괄 거부 (ROLE_SUPER_ADMIN 권한 필요)
+     * - 처리할 수 없는 계정이 있어도 나머지는 거부하고 항목별 결과로 응답
+     *
+     * @param request 관리자 파트너 일괄 승인 거절 요청 정보 (accountIds, reason)
+     * @return 성공 시 code=0, data=요청 순서대로 항목별 처리 결과
+     */
+    @PostMapping("/rejections")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<List<PartnerBulkResult>>> rejectPartners(@Valid @RequestBody PartnerBulkRejectionRequest request) {
+        List<PartnerBulkResult> results = partnerApprovalService.rejectPartners(request);
+
+        ApiResponse<List<PartnerBulkResult>> response = ApiResponse.<List<PartnerBulkResult>>builder()
+                .code(0)
+                .message("Partner bulk rejection processed")
+                .data(results)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 관리자 승인 대기 중인 파트너 목록 페이징 조회
      *
@@ -90,4 +137,30 @@ public class AdminPartnerApprovalController {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 관리자 승인 대기 중인 파트너 목록 커서(keyset) 조회
+     * - cursor 파라미터가 있으면 이 핸들러로 매핑 (빈 값이면 첫 페이지)
+     * - COUNT·OFFSET 없이 조회하므로 대기 목록이 길어도 페이지 지연이 일정
+     *
+     * @param pagingRequest 커서 페이징 요청 정보 (cursor, size)
+     * @return 성공 시 code=0, data=관리자 승인 대기 중인 파트너 목록, meta.nextCursor=다음 페이지 커서
+     */
+    @GetMapping(value = "/pending", params = "cursor")
+    public ResponseEntity<ApiResponse<List<PartnerPendingResponse>>> getPendingPartnersByCursor(@Valid @ModelAttribute CursorPagingRequest pagingRequest) {
+        CursorPage<PartnerPendingResponse> page = partnerApprovalService.getPendingPartnersByCursor(pagingRequest);
+
+        ApiResponse<List<PartnerPendingResponse>> response = ApiResponse.<List<PartnerPendingResponse>>builder()
+                .code(0)
+                .message("Pending partners retrieved successfully")
+                .data(page.getContent())
+                .meta(Meta.builder()
+                        .size(page.getSize())
+                        .nextCursor(page.getNextCursor())
+                        .hasNext(page.isHasNext())
+                        .build())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,26 @@
+package ready_to_marry.authservice.admin.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 관리자 파트너 일괄 승인 요청 DTO
+ *
+ * 관리자가 여러 파트너를 한 번에 승인할 때 클라이언트로부터 전달받을 대상 계정 목록
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PartnerBulkApprovalRequest {
+    // 승인 대상 계정 ID 목록 (UPDATE 1회로 처리하므로 최대 100건)
+    @NotEmpty
+    @Size(max=100)
+    private List<@NotNull UUID> accountIds;
+}
@@ -0,0 +1,26 @@
+package ready_to_marry.authservice.admin.dto.response;
+
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * 파트너 일괄 승인/거부 항목별 처리 결과 DTO
+ *
+ * 요청한 계정 순서대로 반환 (code=0 처리 완료, 그 외 ErrorCode)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PartnerBulkResult {
+    // 대상 계정 ID
+    private UUID accountId;
+
+    // 0 = 처리 완료, 그 외 = 비즈니스 오류 코드 (ACCOUNT_NOT_FOUND, PENDING_ADMIN_APPROVAL_REQUIRED)
+    private int code;
+
+    // 처리 결과 메시지
+    private String message;
+}
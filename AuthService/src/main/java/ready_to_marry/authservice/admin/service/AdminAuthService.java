@@ -3,10 +3,10 @@ package ready_to_marry.authservice.admin.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ready_to_marry.authservice.account.entity.AuthAccount;
+import ready_to_marry.authservice.account.repository.LoginAccount;
 import ready_to_marry.authservice.account.service.AccountService;
 import ready_to_marry.authservice.admin.dto.request.AdminLoginRequest;
 import ready_to_marry.authservice.admin.dto.request.AdminProfileRequest;
@@ -15,6 +15,7 @@ import ready_to_marry.authservice.common.dto.response.JwtResponse;
 import ready_to_marry.authservice.common.enums.AccountStatus;
 import ready_to_marry.authservice.common.enums.AdminRole;
 import ready_to_marry.authservice.common.enums.AuthMethod;
+import ready_to_marry.authservice.common.enums.ProvisioningType;
 import ready_to_marry.authservice.common.enums.Role;
 import ready_to_marry.authservice.common.exception.BusinessException;
 import ready_to_marry.authservice.common.exception.ErrorCode;
@@ -22,9 +23,12 @@ import ready_to_marry.authservice.common.exception.InfrastructureException;
 import ready_to_marry.authservice.common.jwt.JwtClaims;
 import ready_to_marry.authservice.common.jwt.JwtProperties;
 import ready_to_marry.authservice.common.jwt.JwtTokenProvider;
+import ready_to_marry.authservice.common.security.PasswordHashingService;
+import ready_to_marry.authservice.provisioning.service.ProvisioningOutboxService;
 import ready_to_marry.authservice.token.service.RefreshTokenService;
 
 import java.util.Random;
+import java.util.UUID;
 
 import static ready_to_marry.authservice.common.util.MaskingUtil.maskGenericLoginId;
 
@@ -36,11 +40,11 @@ import static ready_to_marry.authservice.common.util.MaskingUtil.maskGenericLogi
 @RequiredArgsConstructor
 public class AdminAuthService {
     private final AccountService accountService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtProperties jwtProperties;
     private final RefreshTokenService refreshTokenService;
-    private final AdminClient adminClient;
+    private final ProvisioningOutboxService provisioningOutboxService;
 
     /**
      * SUPER_ADMIN 권한으로 관리자 계정을 사전 등록
@@ -48,6 +52,7 @@ public class AdminAuthService {
      * @param request 관리자 가입 요청 DTO
      * @throws BusinessException        DUPLICATE_LOGIN_ID
      * @throws InfrastructureException  DB_SAVE_FAILURE
+     * @throws InfrastructureException  PASSWORD_HASHING_BUSY
      */
     @Transactional
     public void registerAdmin(AdminSignupRequest request) {
@@ -58,7 +63,7 @@ public class AdminAuthService {
                 });
 
         // 2) 비밀번호 암호화
-        String encoded = passwordEncoder.encode(request.getPassword());
+        String encoded = passwordHashingService.encode(request.getPassword());
 
         // 3) AuthAccount 엔티티 생성
         AuthAccount account = AuthAccount.builder()
@@ -89,22 +94,10 @@ public class AdminAuthService {
                 .phone(request.getPhone())
                 .build();
 
-        // 6) ADMIN SERVICE에 요청 (INTERNAL API) -> admin_profile(adminDB)에 저장
-        // TODO: INTERNAL API 호출 로직 추가 O
-        // TODO: INTERNAL API 호출 에러 시 처리 로직 추가 O
-        // FIXME: INTERNAL API 호출 결과에서 가져오는 adminId로 변경 (임시 코드) O
-        System.out.println("추가 요청 시작");
-        Long adminId;
+        // 6) 프로필 생성 요청을 outbox에 적재 (계정과 같은 트랜잭션으로 커밋)
+        //    -> ProvisioningRelay가 ADMIN SERVICE에 요청 (INTERNAL API) 후 auth_account에 adminId 업데이트
         try {
-            adminId = adminClient.saveAdminProfile(internalRequest);
-        } catch (Exception e) {
-            throw new InfrastructureException(ErrorCode.EXTERNAL_API_FAILURE, e);
-        }
-        System.out.println("추가 요청 완료");
-
-        // 7) auth_account에 adminId 업데이트
-        try {
-            accountService.updateAdminId(savedAccount.getAccountId(), adminId);
+            provisioningOutboxService.enqueue(savedAccount.getAccountId(), ProvisioningType.ADMIN_PROFILE, internalRequest);
         } catch (DataAccessException ex) {
             log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), savedAccount.getAccountId(), ex);
             throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
@@ -118,17 +111,20 @@ public class AdminAuthService {
      * @return 발급된 JWT 토큰 정보
      * @throws BusinessException        INVALID_CREDENTIALS
      * @throws InfrastructureException  REFRESH_TOKEN_SAVE_FAILURE
+     * @throws InfrastructureException  PASSWORD_HASHING_BUSY
      */
-    @Transactional
     public JwtResponse login(AdminLoginRequest request) {
-        AuthAccount account = accountService.findByLoginId(request.getLoginId())
+        LoginAccount account = accountService.findLoginAccount(request.getLoginId())
                 .filter(a -> a.getAuthMethod().name().equals("INTERNAL") && a.getRole().name().equals("ADMIN"))
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
 
-        if (!passwordEncoder.matches(request.getPassword(), account.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), account.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
 
+        // 기존 해시가 현재 알고리즘·비용보다 약하면 재해시 후 저장
+        passwordHashingService.upgradeIfNeeded(account.getAccountId(), account.getPassword(), request.getPassword());
+
         // 1) Access Token 생성
         String accessToken = jwtTokenProvider.generateAccessToken(
                 account.getAccountId().toString(),
@@ -141,13 +137,15 @@ public class AdminAuthService {
         );
 
         // 2) Refresh Token 생성
+        String sessionId = UUID.randomUUID().toString();
         String refreshToken = jwtTokenProvider.generateRefreshToken(
-                account.getAccountId().toString()
+                account.getAccountId().toString(),
+                sessionId
         );
 
         // 3) Refresh Token Redis에 저장
         try {
-            refreshTokenService.save(account.getAccountId(), refreshToken);
+            refreshTokenService.save(account.getAccountId(), sessionId, refreshToken);
         }  catch (DataAccessException ex) {
             log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.REFRESH_TOKEN_SAVE_FAILURE.getMessage(), account.getAccountId(), ex);
             throw new InfrastructureException(ErrorCode.REFRESH_TOKEN_SAVE_FAILURE, ex);
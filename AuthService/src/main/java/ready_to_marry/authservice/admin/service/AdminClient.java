@@ -4,8 +4,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 import ready_to_marry.authservice.admin.dto.request.AdminProfileRequest;
+import ready_to_marry.authservice.common.config.WebClientConfig;
 import ready_to_marry.authservice.common.dto.response.ApiResponse;
 import ready_to_marry.authservice.common.exception.ErrorCode;
 import ready_to_marry.authservice.common.exception.InfrastructureException;
@@ -18,11 +20,22 @@ public class AdminClient {
 
     private static final String BASE_URL = "http://admin-service";
 
-    public Long saveAdminProfile(AdminProfileRequest requestDto) {
-        System.out.println(BASE_URL + "/internal/admin-id");
+    /**
+     * 관리자 프로필 저장 (INTERNAL API)
+     *
+     * @param requestDto     저장할 프로필
+     * @param idempotencyKey 재시도 시 중복 생성 방지 키 (null이면 헤더 생략)
+     * @return 생성된 adminId
+     */
+    public Mono<Long> saveAdminProfileAsync(AdminProfileRequest requestDto, String idempotencyKey) {
         return webClientBuilder.build()
                 .post()
                 .uri(BASE_URL + "/internal/admin-id")
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set(WebClientConfig.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                    }
+                })
                 .bodyValue(requestDto)
                 .retrieve()
                 .onStatus(status -> status.isError(), response ->
@@ -34,12 +47,13 @@ public class AdminClient {
                                     if (code == 2301) {
                                         return Mono.error(new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, new RuntimeException(message)));
                                     } else {
-                                        return Mono.error(new RuntimeException("Unknown error: " + message));
+                                        // 상태 코드 유지 (릴레이가 4xx를 재시도 불가로 분류)
+                                        return Mono.error(WebClientResponseException.create(
+                                                response.statusCode().value(), "Unknown error: " + message, null, null, null));
                                     }
                                 })
                 )
                 .bodyToMono(new ParameterizedTypeReference<ApiResponse<Long>>() {})
-                .map(ApiResponse::getData)
-                .block();
+                .map(ApiResponse::getData);
     }
 }
@@ -1,12 +1,18 @@
 package ready_to_marry.authservice.admin.service;
 
 import org.springframework.data.domain.Page;
+import ready_to_marry.authservice.admin.dto.request.PartnerBulkApprovalRequest;
+import ready_to_marry.authservice.admin.dto.request.PartnerBulkRejectionRequest;
 import ready_to_marry.authservice.admin.dto.request.PartnerRejectionRequest;
+import ready_to_marry.authservice.admin.dto.response.PartnerBulkResult;
 import ready_to_marry.authservice.admin.dto.response.PartnerPendingResponse;
+import ready_to_marry.authservice.common.dto.request.CursorPagingRequest;
 import ready_to_marry.authservice.common.dto.request.PagingRequest;
+import ready_to_marry.authservice.common.dto.response.CursorPage;
 import ready_to_marry.authservice.common.exception.BusinessException;
 import ready_to_marry.authservice.common.exception.InfrastructureException;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -28,12 +34,11 @@ public interface PartnerApprovalService {
 
     /**
      * 파트너 계정 거부
-     * 1) 계정 조회 및 상태 확인
-     * 2) PARTNER SERVICE에 요청 (INTERNAL API) -> partner_profile(partnerDB) 조회
-     * 3) withdrawal_history 기록
-     * 4) auth_account 삭제
-     * 5) PARTNER SERVICE에 요청 (INTERNAL API) -> partner_profile(partnerDB) 삭제
-     * 6) 계정 거부 안내 메일 전송 (비동기, 실패 무시)
+     * 1) 계정 조회 및 상태 확인 (트랜잭션 밖)
+     * 2) PARTNER SERVICE에 요청 (INTERNAL API) -> partner_profile(partnerDB) 조회 (트랜잭션 밖, profile-fetch-timeout)
+     * 3) 짧은 트랜잭션 (transaction-timeout): 잠금 후 상태 재확인 → withdrawal_history 기록 → auth_account 삭제
+     *    → partner_profile 삭제 요청을 provisioning_outbox에, 거부 안내 메일을 mail_queue에 적재
+     * 4) 커밋 후 ProvisioningRelay가 PARTNER SERVICE에 partner_profile(partnerDB) 삭제 요청 (보상 단계, 재시도 포함)
      *
      * @param accountId 거부 대상 계정의 UUID
      * @param request 관리자 파트너 승인 거절 요청 DTO
@@ -41,15 +46,51 @@ public interface PartnerApprovalService {
      * @throws InfrastructureException  DB_RETRIEVE_FAILURE
      * @throws InfrastructureException  DB_SAVE_FAILURE
      * @throws InfrastructureException  DB_DELETE_FAILURE
+     * @throws InfrastructureException  EMAIL_SEND_FAILURE
+     * @throws InfrastructureException  EXTERNAL_API_FAILURE
      * @throws InfrastructureException  JSON_SERIALIZATION_FAILURE
      */
     void rejectPartner(UUID accountId, PartnerRejectionRequest request);
 
+    /**
+     * 파트너 계정 일괄 승인
+     * 1) 승인 대기 파트너만 ACTIVE로 일괄 변경 (UPDATE 1회)
+     * 2) 승인된 계정의 안내 메일을 mail_queue에 적재
+     * 3) 승인되지 않은 계정의 사유 판별 (미존재 / 상태 불일치)
+     * 4) 요청 순서대로 항목별 결과 반환
+     *
+     * @param request                                   관리자 파트너 일괄 승인 요청 DTO
+     * @return List<PartnerBulkResult>                  항목별 처리 결과
+     * @throws InfrastructureException                  DB_RETRIEVE_FAILURE
+     * @throws InfrastructureException                  DB_SAVE_FAILURE
+     * @throws InfrastructureException                  EMAIL_SEND_FAILURE
+     */
+    List<PartnerBulkResult> approvePartners(PartnerBulkApprovalRequest request);
+
+    /**
+     * 파트너 계정 일괄 거부
+     * 1) 대상 계정 일괄 조회 및 상태 확인 (트랜잭션 밖)
+     * 2) PARTNER SERVICE에 일괄 요청 (INTERNAL API) -> partner_profile(partnerDB) 조회 (트랜잭션 밖)
+     * 3) 짧은 트랜잭션: 잠금 후 상태 재확인 → withdrawal_history 일괄 기록 → auth_account 일괄 삭제 (DELETE 1회)
+     *    → partner_profile 삭제 요청을 provisioning_outbox에, 거부 안내 메일을 mail_queue에 적재
+     * 4) 요청 순서대로 항목별 결과 반환
+     *
+     * @param request                                   관리자 파트너 일괄 승인 거절 요청 DTO
+     * @return List<PartnerBulkResult>                  항목별 처리 결과
+     * @throws InfrastructureException                  DB_RETRIEVE_FAILURE
+     * @throws InfrastructureException                  DB_SAVE_FAILURE
+     * @throws InfrastructureException                  DB_DELETE_FAILURE
+     * @throws InfrastructureException                  EMAIL_SEND_FAILURE
+     * @throws InfrastructureException                  EXTERNAL_API_FAILURE
+     * @throws InfrastructureException                  JSON_SERIALIZATION_FAILURE
+     */
+    List<PartnerBulkResult> rejectPartners(PartnerBulkRejectionRequest request);
+
     /**
      * PENDING_ADMIN_APPROVAL 상태인 파트너 계정들을 생성 시각 오름차순으로 페이징 조회
      * 1) 페이징 요청 정보 생성
      * 2) 관리자 승인 대기 중인 파트너 계정 목록을 생성 시각 기준으로 오름차순 정렬하여 조회
-     * 3) 각 AuthAccount마다 PARTNER SERVICE에 요청 (INTERNAL API) -> partner_profile(partnerDB)에서 조회
+     * 3) 페이지 내 partnerId를 모아 PARTNER SERVICE에 일괄 요청 (INTERNAL API) -> partner_profile(partnerDB)에서 조회
      * 4) AuthAccount + PartnerProfileAll → PartnerPendingResponse 매핑
      *
      * @param pagingRequest                             페이징 요청 정보 (page, size)
@@ -57,4 +98,19 @@ public interface PartnerApprovalService {
      * @throws InfrastructureException                  DB_RETRIEVE_FAILURE
      */
     Page<PartnerPendingResponse> getPendingPartners(PagingRequest pagingRequest);
+
+    /**
+     * PENDING_ADMIN_APPROVAL 상태인 파트너 계정들을 (생성 시각, accountId) 오름차순으로 커서(keyset) 조회
+     * 1) 커서 디코딩 (비어 있으면 첫 페이지)
+     * 2) 커서 이후 계정을 size + 1건 조회 (COUNT 쿼리 없음)
+     * 3) 다음 페이지 커서 생성 (마지막 항목 기준)
+     * 4) PARTNER SERVICE 일괄 조회 + PartnerPendingResponse 매핑
+     *
+     * @param pagingRequest                             커서 페이징 요청 정보 (cursor, size)
+     * @return CursorPage<PartnerPendingResponse>       조회된 계정 목록 + 다음 페이지 커서
+     * @throws BusinessException                        INVALID_PAGE_CURSOR
+     * @throws InfrastructureException                  DB_RETRIEVE_FAILURE
+     * @throws InfrastructureException                  EXTERNAL_API_FAILURE
+     */
+    CursorPage<PartnerPendingResponse> getPendingPartnersByCursor(CursorPagingRequest pagingRequest);
 }
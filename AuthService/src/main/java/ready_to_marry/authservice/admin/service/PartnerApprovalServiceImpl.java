@@ -5,30 +5,49 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import ready_to_marry.authservice.account.entity.AuthAccount;
 import ready_to_marry.authservice.account.entity.WithdrawalHistory;
+import ready_to_marry.authservice.account.repository.ApprovedAccount;
 import ready_to_marry.authservice.account.service.AccountService;
 import ready_to_marry.authservice.account.service.WithdrawalHistoryService;
+import ready_to_marry.authservice.admin.dto.request.PartnerBulkApprovalRequest;
+import ready_to_marry.authservice.admin.dto.request.PartnerBulkRejectionRequest;
 import ready_to_marry.authservice.admin.dto.request.PartnerRejectionRequest;
+import ready_to_marry.authservice.admin.dto.response.PartnerBulkResult;
 import ready_to_marry.authservice.admin.dto.response.PartnerPendingResponse;
 import ready_to_marry.authservice.admin.dto.response.PartnerProfileAll;
 import ready_to_marry.authservice.admin.dto.response.PartnerProfileSnapshot;
+import ready_to_marry.authservice.common.dto.request.CursorPagingRequest;
 import ready_to_marry.authservice.common.dto.request.PagingRequest;
+import ready_to_marry.authservice.common.dto.response.CursorPage;
 import ready_to_marry.authservice.common.enums.AccountStatus;
 import ready_to_marry.authservice.common.enums.DeletionType;
+import ready_to_marry.authservice.common.enums.ProvisioningType;
 import ready_to_marry.authservice.common.enums.Role;
 import ready_to_marry.authservice.common.exception.BusinessException;
 import ready_to_marry.authservice.common.exception.ErrorCode;
 import ready_to_marry.authservice.common.exception.InfrastructureException;
 import ready_to_marry.authservice.common.util.JsonUtil;
+import ready_to_marry.authservice.common.util.PageCursorUtil;
+import ready_to_marry.authservice.partner.config.AuthPartnerProperties;
 import ready_to_marry.authservice.partner.dto.request.PartnerResponseDto;
 import ready_to_marry.authservice.partner.email.EmailService;
 import ready_to_marry.authservice.partner.service.PartnerClient;
+import ready_to_marry.authservice.provisioning.service.ProvisioningOutboxService;
 
+import java.time.DateTimeException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -38,6 +57,9 @@ public class PartnerApprovalServiceImpl implements PartnerApprovalService{
     private final WithdrawalHistoryService withdrawalHistoryService;
     private final EmailService emailService;
     private final PartnerClient partnerClient;
+    private final ProvisioningOutboxService provisioningOutboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final AuthPartnerProperties authPartnerProperties;
 
     @Override
     @Transactional
@@ -69,14 +91,18 @@ public class PartnerApprovalServiceImpl implements PartnerApprovalService{
             throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
         }
 
-        // 3) 계정 승인 안내 메일 전송 (비동기, 실패 무시)
-        emailService.sendPartnerApproved(account.getLoginId());
+        // 3) 계정 승인 안내 메일 발송 요청 (mail_queue에 적재, 커밋 후 MailQueueWorker가 발송)
+        try {
+            emailService.sendPartnerApproved(account.getLoginId());
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.EMAIL_SEND_FAILURE.getMessage(), accountId, ex);
+            throw new InfrastructureException(ErrorCode.EMAIL_SEND_FAILURE, ex);
+        }
     }
 
     @Override
-    @Transactional
     public void rejectPartner(UUID accountId, PartnerRejectionRequest request) {
-        // 1) 계정 조회 및 상태 확인
+        // 1) 계정 조회 및 상태 확인 (트랜잭션 밖)
         AuthAccount account;
         try {
             account = accountService.findById(accountId)
@@ -96,62 +122,242 @@ public class PartnerApprovalServiceImpl implements PartnerApprovalService{
         }
 
         // 2) PARTNER SERVICE에 요청 (INTERNAL API) -> partner_profile(partnerDB) 조회
+        //    트랜잭션 전에 제한 시간 안에서만 대기 (외부 왕복 동안 DB 커넥션을 잡지 않음)
+        //    프로필 생성 전(partnerId 미기록) 계정은 빈 스냅샷으로 기록
         // TODO: INTERNAL API 호출 로직 추가 O
         // TODO: INTERNAL API 호출 에러 시 처리 로직 추가 O
-        PartnerResponseDto partnerResponseDto;
+        Map<Long, PartnerResponseDto> profiles = account.getPartnerId() == null
+                ? Map.of()
+                : Map.of(account.getPartnerId(), fetchPartnerProfile(account.getPartnerId()));
+
+        // 3) 짧은 트랜잭션: 잠금 후 상태 재확인 → withdrawal_history 기록 → auth_account 삭제
+        //    → partner_profile 삭제 요청(provisioning_outbox)·거부 안내 메일(mail_queue) 적재
+        //    partner_profile 삭제는 커밋 후 ProvisioningRelay가 재시도 포함 수행 (응답 지연에 포함되지 않음)
+        Set<UUID> rejectedIds = rejectionTransaction().execute(status ->
+                rejectLocked(List.of(accountId), profiles, request.getReason()));
+
+        if (rejectedIds == null || rejectedIds.isEmpty()) {
+            // 1) 이후 다른 요청이 먼저 승인·거부함
+            log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.PENDING_ADMIN_APPROVAL_REQUIRED.getMessage(), accountId);
+            throw new BusinessException(ErrorCode.PENDING_ADMIN_APPROVAL_REQUIRED);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<PartnerBulkResult> approvePartners(PartnerBulkApprovalRequest request) {
+        List<UUID> accountIds = request.getAccountIds().stream().distinct().toList();
+
+        // 1) 승인 대기 파트너만 ACTIVE로 일괄 변경 (UPDATE 1회, 상태 조건으로 동시 처리된 계정은 제외)
+        List<ApprovedAccount> approved;
+        try {
+            approved = accountService.approvePendingPartners(accountIds);
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=accountIds, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), accountIds, ex);
+            throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
+        }
+
+        // 2) 계정 승인 안내 메일 발송 요청 (mail_queue에 적재, 커밋 후 MailQueueWorker가 발송)
+        for (ApprovedAccount account : approved) {
+            try {
+                emailService.sendPartnerApproved(account.getLoginId());
+            } catch (DataAccessException ex) {
+                log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.EMAIL_SEND_FAILURE.getMessage(), account.getAccountId(), ex);
+                throw new InfrastructureException(ErrorCode.EMAIL_SEND_FAILURE, ex);
+            }
+        }
+
+        // 3) 승인되지 않은 계정의 사유 판별 (미존재 / 상태 불일치)
+        Set<UUID> approvedIds = approved.stream()
+                .map(ApprovedAccount::getAccountId)
+                .collect(Collectors.toSet());
+        Map<UUID, AuthAccount> skipped = findAccounts(accountIds.stream()
+                .filter(accountId -> !approvedIds.contains(accountId))
+                .toList());
+
+        // 4) 요청 순서대로 항목별 결과 반환
+        return accountIds.stream()
+                .map(accountId -> approvedIds.contains(accountId)
+                        ? succeeded(accountId, "Partner approved")
+                        : failed(accountId, skipped.get(accountId)))
+                .toList();
+    }
+
+    @Override
+    public List<PartnerBulkResult> rejectPartners(PartnerBulkRejectionRequest request) {
+        List<UUID> accountIds = request.getAccountIds().stream().distinct().toList();
+
+        // 1) 대상 계정 일괄 조회 및 상태 확인 (트랜잭션 밖)
+        Map<UUID, AuthAccount> accounts = findAccounts(accountIds);
+        List<AuthAccount> candidates = accountIds.stream()
+                .map(accounts::get)
+                .filter(this::isPendingPartner)
+                .toList();
+
+        // 2) PARTNER SERVICE에 일괄 요청 (INTERNAL API) -> partner_profile(partnerDB) 조회
+        //    외부 왕복 동안 DB 커넥션을 잡지 않도록 트랜잭션 전에 수행
+        List<Long> partnerIds = candidates.stream()
+                .map(AuthAccount::getPartnerId)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Map<Long, PartnerResponseDto> profiles;
         try {
-            partnerResponseDto = partnerClient.getPartnerProfile(account.getPartnerId()); // 예: partnerId가 있다면
+            profiles = partnerClient.getPartnerProfiles(partnerIds, authPartnerProperties.getRejection().getProfileFetchTimeout());
         } catch (Exception e) {
+            log.error("{}: identifierType=partnerIds, identifierValue={}", ErrorCode.EXTERNAL_API_FAILURE.getMessage(), partnerIds, e);
             throw new InfrastructureException(ErrorCode.EXTERNAL_API_FAILURE, e);
         }
-        // FIXME: INTERNAL API 호출 결과에서 가져오는 partner_profile로 변경 (임시 코드) O
-        PartnerProfileSnapshot profileSnapshot = PartnerProfileSnapshot.builder()
-                .name(partnerResponseDto.getName())
-                .companyName(partnerResponseDto.getCompanyName())
-                .phone(partnerResponseDto.getPhone())
-                .businessNum(partnerResponseDto.getBusinessNum())
-                .build();
 
-        // 3) withdrawal_history 기록
-        WithdrawalHistory history = WithdrawalHistory.builder()
-                .accountId(accountId)
-                .authMethod(account.getAuthMethod())
-                .loginId(account.getLoginId())
-                .role(account.getRole())
-                .partnerId(account.getPartnerId())
-                .profileSnapshot(JsonUtil.toJson(profileSnapshot))
-                .reason(request.getReason())
-                .deletedBy(DeletionType.ADMIN)
-                .joinedAt(account.getCreatedAt())
-                .build();
+        // 3) 짧은 트랜잭션: 잠금 후 상태 재확인 → 이력 기록 → 계정 삭제 → 프로필 삭제·메일 발송 요청 적재
+        Set<UUID> rejectedIds = candidates.isEmpty()
+                ? Set.of()
+                : rejectionTransaction().execute(status -> rejectLocked(
+                        candidates.stream().map(AuthAccount::getAccountId).toList(), profiles, request.getReason()));
+
+        // 4) 요청 순서대로 항목별 결과 반환 (1) 이후 다른 요청이 처리한 계정은 상태 불일치)
+        return accountIds.stream()
+                .map(accountId -> rejectedIds.contains(accountId)
+                        ? succeeded(accountId, "Partner rejected")
+                        : failed(accountId, accounts.get(accountId)))
+                .toList();
+    }
 
+    private Set<UUID> rejectLocked(List<UUID> candidateIds, Map<Long, PartnerResponseDto> profiles, String reason) {
+        // 3)-1 승인 대기 상태가 유지된 계정만 잠금 후 조회
+        List<AuthAccount> locked;
         try {
-            withdrawalHistoryService.save(history);
+            locked = accountService.lockPendingPartners(candidateIds);
         } catch (DataAccessException ex) {
-            log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), accountId, ex);
+            log.error("{}: identifierType=accountIds, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), candidateIds, ex);
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+        }
+        if (locked.isEmpty()) {
+            return Set.of();
+        }
+
+        // 3)-2 withdrawal_history 일괄 기록 (프로필 미연동·미조회 계정은 빈 스냅샷)
+        List<WithdrawalHistory> histories = locked.stream().map(account -> {
+            PartnerResponseDto partnerResponseDto = account.getPartnerId() == null ? null : profiles.get(account.getPartnerId());
+            if (partnerResponseDto == null) {
+                log.warn("Partner profile not found: identifierType=accountId, identifierValue={}", account.getAccountId());
+                partnerResponseDto = new PartnerResponseDto();
+            }
+
+            PartnerProfileSnapshot profileSnapshot = PartnerProfileSnapshot.builder()
+                    .name(partnerResponseDto.getName())
+                    .companyName(partnerResponseDto.getCompanyName())
+                    .phone(partnerResponseDto.getPhone())
+                    .businessNum(partnerResponseDto.getBusinessNum())
+                    .build();
+
+            return WithdrawalHistory.builder()
+                    .accountId(account.getAccountId())
+                    .authMethod(account.getAuthMethod())
+                    .loginId(account.getLoginId())
+                    .role(account.getRole())
+                    .partnerId(account.getPartnerId())
+                    .profileSnapshot(JsonUtil.toJson(profileSnapshot))
+                    .reason(reason)
+                    .deletedBy(DeletionType.ADMIN)
+                    .joinedAt(account.getCreatedAt())
+                    .build();
+        }).toList();
+
+        try {
+            withdrawalHistoryService.saveAll(histories);
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=accountIds, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), candidateIds, ex);
             throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
         }
 
-        // 4) auth_account 삭제
+        // 3)-3 auth_account 일괄 삭제 (DELETE 1회)
+        List<UUID> lockedIds = locked.stream().map(AuthAccount::getAccountId).toList();
         try {
-            accountService.deleteById(accountId);
+            accountService.deleteAllById(lockedIds);
         } catch (DataAccessException ex) {
-            log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.DB_DELETE_FAILURE, accountId, ex);
+            log.error("{}: identifierType=accountIds, identifierValue={}", ErrorCode.DB_DELETE_FAILURE.getMessage(), lockedIds, ex);
             throw new InfrastructureException(ErrorCode.DB_DELETE_FAILURE, ex);
         }
 
-        // 5) PARTNER SERVICE에 요청 (INTERNAL API) -> partner_profile(partnerDB) 삭제
-        // TODO: INTERNAL API 호출 로직 추가 O
-        // TODO: INTERNAL API 호출 에러 시 처리 로직 추가 O
+        // 3)-4 partner_profile 삭제 요청 적재 (커밋 후 ProvisioningRelay가 재시도 포함 전달)
+        //      거부 안내 메일 발송 요청 적재 (커밋 후 MailQueueWorker가 발송)
+        for (AuthAccount account : locked) {
+            if (account.getPartnerId() != null) {
+                try {
+                    provisioningOutboxService.enqueue(account.getAccountId(), ProvisioningType.PARTNER_PROFILE_DELETE, account.getPartnerId());
+                } catch (DataAccessException ex) {
+                    log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), account.getAccountId(), ex);
+                    throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
+                }
+            }
+
+            try {
+                emailService.sendPartnerRejected(account.getLoginId(), reason);
+            } catch (DataAccessException ex) {
+                log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.EMAIL_SEND_FAILURE.getMessage(), account.getAccountId(), ex);
+                throw new InfrastructureException(ErrorCode.EMAIL_SEND_FAILURE, ex);
+            }
+        }
+
+        return Set.copyOf(lockedIds);
+    }
+
+    private PartnerResponseDto fetchPartnerProfile(Long partnerId) {
         try {
-            partnerClient.deletePartnerProfile(account.getPartnerId());
+            return partnerClient.getPartnerProfile(partnerId, authPartnerProperties.getRejection().getProfileFetchTimeout());
         } catch (Exception e) {
-            log.error("{}: Failed to delete partner profile for partnerId={}", ErrorCode.EXTERNAL_API_FAILURE, account.getPartnerId(), e);
+            log.error("{}: identifierType=partnerId, identifierValue={}", ErrorCode.EXTERNAL_API_FAILURE.getMessage(), partnerId, e);
             throw new InfrastructureException(ErrorCode.EXTERNAL_API_FAILURE, e);
         }
+    }
+
+    // 거부 트랜잭션 (auth.partner.rejection.transaction-timeout 초과 시 롤백)
+    private TransactionTemplate rejectionTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        template.setTimeout((int) Math.max(authPartnerProperties.getRejection().getTransactionTimeout().toSeconds(), 1));
+        return template;
+    }
+
+    private Map<UUID, AuthAccount> findAccounts(List<UUID> accountIds) {
+        if (accountIds.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            return accountService.findAllById(accountIds).stream()
+                    .collect(Collectors.toMap(AuthAccount::getAccountId, Function.identity()));
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=accountIds, identifierValue={}", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), accountIds, ex);
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+        }
+    }
+
+    private boolean isPendingPartner(AuthAccount account) {
+        return account != null
+                && account.getRole() == Role.PARTNER
+                && account.getStatus() == AccountStatus.PENDING_ADMIN_APPROVAL;
+    }
 
-        // 6) 계정 거부 안내 메일 전송 (비동기, 실패 무시)
-        emailService.sendPartnerRejected(account.getLoginId(), request.getReason());
+    private static PartnerBulkResult succeeded(UUID accountId, String message) {
+        return PartnerBulkResult.builder()
+                .accountId(accountId)
+                .code(0)
+                .message(message)
+                .build();
+    }
+
+    // 미존재·파트너 아닌 계정은 ACCOUNT_NOT_FOUND, 그 외(이미 처리됨 등)는 PENDING_ADMIN_APPROVAL_REQUIRED
+    private static PartnerBulkResult failed(UUID accountId, AuthAccount account) {
+        ErrorCode errorCode = account == null || account.getRole() != Role.PARTNER
+                ? ErrorCode.ACCOUNT_NOT_FOUND
+                : ErrorCode.PENDING_ADMIN_APPROVAL_REQUIRED;
+
+        return PartnerBulkResult.builder()
+                .accountId(accountId)
+                .code(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .build();
     }
 
     @Override
@@ -162,7 +368,7 @@ public class PartnerApprovalServiceImpl implements PartnerApprovalService{
         // 2) 관리자 승인 대기 중인 파트너 계정 목록을 생성 시각 기준으로 오름차순 정렬하여 조회
         Page<AuthAccount> page = fetchPendingAccounts(pageRequest);
 
-        // 3) 각 AuthAccount마다 PARTNER SERVICE에 요청 (INTERNAL API) -> partner_profile(partnerDB)에서 조회
+        // 3) 페이지 내 partnerId를 모아 PARTNER SERVICE에 일괄 요청 (INTERNAL API) -> partner_profile(partnerDB)에서 조회
         // 4) AuthAccount + PartnerProfileAll → PartnerPendingResponse 매핑
         return mapToPendingResponse(page);
     }
@@ -180,17 +386,83 @@ public class PartnerApprovalServiceImpl implements PartnerApprovalService{
         return page;
     }
 
-    public Page<PartnerPendingResponse> mapToPendingResponse(Page<AuthAccount> page) {
-        return page.map(account -> {
-            // TODO: INTERNAL API 호출 로직 추가 o
-            // TODO: INTERNAL API 호출 에러 시 처리 로직 추가 o
-            PartnerResponseDto partnerResponseDto;
+    @Override
+    public CursorPage<PartnerPendingResponse> getPendingPartnersByCursor(CursorPagingRequest pagingRequest) {
+        // 1) 커서 디코딩 (비어 있으면 첫 페이지)
+        PageCursorUtil.Cursor cursor = null;
+        if (pagingRequest.getCursor() != null && !pagingRequest.getCursor().isBlank()) {
             try {
-                partnerResponseDto = partnerClient.getPartnerProfile(account.getPartnerId()); // 예: partnerId가 있다면
-            } catch (Exception e) {
-                throw new InfrastructureException(ErrorCode.EXTERNAL_API_FAILURE, e);
+                cursor = PageCursorUtil.decode(pagingRequest.getCursor());
+            } catch (IllegalArgumentException | DateTimeException ex) {
+                log.error("{}: identifierType=cursor, identifierValue={}", ErrorCode.INVALID_PAGE_CURSOR.getMessage(), pagingRequest.getCursor());
+                throw new BusinessException(ErrorCode.INVALID_PAGE_CURSOR);
+            }
+        }
+
+        // 2) 커서 이후 계정을 size + 1건 조회 (초과 1건으로 다음 페이지 존재 여부 판단, COUNT 쿼리 없음)
+        int size = pagingRequest.getSize();
+        List<AuthAccount> accounts;
+        try {
+            accounts = accountService.findByRoleAndStatusAfter(
+                    Role.PARTNER,
+                    AccountStatus.PENDING_ADMIN_APPROVAL,
+                    cursor == null ? null : cursor.createdAt(),
+                    cursor == null ? null : cursor.accountId(),
+                    size + 1
+            );
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=none, identifierValue=none", ErrorCode.DB_RETRIEVE_FAILURE.getMessage(), ex);
+            throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
+        }
+
+        boolean hasNext = accounts.size() > size;
+        if (hasNext) {
+            accounts = accounts.subList(0, size);
+        }
+
+        // 3) 다음 페이지 커서 생성 (마지막 항목 기준)
+        String nextCursor = null;
+        if (hasNext) {
+            AuthAccount last = accounts.get(accounts.size() - 1);
+            nextCursor = PageCursorUtil.encode(last.getCreatedAt(), last.getAccountId());
+        }
+
+        // 4) PARTNER SERVICE 일괄 조회 + PartnerPendingResponse 매핑
+        return CursorPage.<PartnerPendingResponse>builder()
+                .content(mapToPendingResponses(accounts))
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    public Page<PartnerPendingResponse> mapToPendingResponse(Page<AuthAccount> page) {
+        return new PageImpl<>(mapToPendingResponses(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    private List<PartnerPendingResponse> mapToPendingResponses(List<AuthAccount> accounts) {
+        // 페이지 내 모든 partnerId의 프로필을 한 번에 조회 (배치 엔드포인트 또는 제한된 동시 요청)
+        List<Long> partnerIds = accounts.stream()
+                .map(AuthAccount::getPartnerId)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Map<Long, PartnerResponseDto> profiles;
+        try {
+            profiles = partnerClient.getPartnerProfiles(partnerIds, authPartnerProperties.getPendingList().getProfileFetchTimeout());
+        } catch (Exception e) {
+            log.error("{}: identifierType=partnerIds, identifierValue={}", ErrorCode.EXTERNAL_API_FAILURE.getMessage(), partnerIds, e);
+            throw new InfrastructureException(ErrorCode.EXTERNAL_API_FAILURE, e);
+        }
+
+        return accounts.stream().map(account -> {
+            PartnerResponseDto partnerResponseDto = account.getPartnerId() == null ? null : profiles.get(account.getPartnerId());
+            if (partnerResponseDto == null) {
+                // 프로필 미연동·미조회 계정은 계정 정보만 응답
+                log.warn("Partner profile not found: identifierType=accountId, identifierValue={}", account.getAccountId());
+                partnerResponseDto = new PartnerResponseDto();
             }
-            // FIXME: INTERNAL API 호출 결과에서 가져오는 파트너 프로필 정보로 변경 (임시 코드) o
+
             PartnerProfileAll partnerProfileAll = PartnerProfileAll.builder()
                     .name(partnerResponseDto.getName())
                     .companyName(partnerResponseDto.getCompanyName())
@@ -210,6 +482,6 @@ public class PartnerApprovalServiceImpl implements PartnerApprovalService{
                     .companyNum(partnerProfileAll.getCompanyNum())
                     .businessNum(partnerProfileAll.getBusinessNum())
                     .build();
-        });
+        }).toList();
     }
 }
@@ -0,0 +1,57 @@
+package ready_to_marry.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 auth.password.* 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.password")
+public class PasswordProperties {
+    // 신규 해시에 사용할 알고리즘 (기존 해시는 알고리즘과 무관하게 검증 가능)
+    private Algorithm algorithm = Algorithm.BCRYPT;
+
+    // 해시 비용 (BCRYPT: log rounds, ARGON2: iterations), 기본값은 기존 BCrypt 비용(10), 0 이하면 알고리즘별 최소 비용
+    private int cost = 10;
+
+    // 기동 시 target-latency 기준 비용 자동 측정 여부 (true면 cost 무시)
+    // - 측정값은 노드 하드웨어·JIT 워밍업 상태에 따라 달라지므로 노드·배포마다 비용이 다를 수 있음
+    private boolean calibrate = false;
+
+    // 해시 1회 목표 소요 시간 (자동 측정 시 이 시간을 넘지 않는 가장 높은 비용 선택)
+    private Duration targetLatency = Duration.ofMillis(250);
+
+    // ARGON2 메모리 비용 (KiB)
+    private int argon2MemoryKib = 19_456;
+
+    // 비밀번호 해시 전용 executor 설정
+    private Executor executor = new Executor();
+
+    @Getter
+    @Setter
+    public static class Executor {
+        // 해시 작업 스레드 수 (0 이하면 CPU 코어 수)
+        private int threads = 0;
+
+        // 대기열 최대 길이 (초과 시 즉시 거절)
+        private int queueCapacity = 64;
+
+        // 요청 스레드가 해시 결과를 기다리는 최대 시간 (대기열 대기 포함)
+        private Duration timeout = Duration.ofSeconds(2);
+    }
+
+    public enum Algorithm {
+        // BCrypt (비용 = log rounds, 10 ~ 16)
+        BCRYPT,
+
+        // Argon2id (비용 = iterations, 2 ~ 10, BouncyCastle 필요)
+        ARGON2
+    }
+}
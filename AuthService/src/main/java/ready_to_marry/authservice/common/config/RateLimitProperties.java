@@ -0,0 +1,38 @@
+package ready_to_marry.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 auth.rate-limit.* 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.rate-limit")
+public class RateLimitProperties {
+    // 로그인 시도 제한 사용 여부
+    private boolean enabled = true;
+
+    // 제한 기준 시간 (로컬 토큰 버킷 충전 주기 겸 Redis 슬라이딩 윈도 크기)
+    private Duration window = Duration.ofMinutes(1);
+
+    // window 동안 loginId당 허용 시도 수
+    private int loginIdLimit = 10;
+
+    // window 동안 클라이언트 IP당 허용 시도 수
+    private int ipLimit = 30;
+
+    // X-Forwarded-For에 값을 덧붙이는 신뢰 프록시 수 (클라이언트 IP = 오른쪽에서 이 순번의 값, 0이면 remoteAddr만 사용)
+    private int trustedProxies = 1;
+
+    // 노드 로컬 토큰 버킷 최대 보관 키 수
+    private long localMaximumKeys = 100_000;
+
+    // Redis 슬라이딩 윈도 키 접두어
+    private String redisKeyPrefix = "rl:login:";
+}
@@ -0,0 +1,40 @@
+package ready_to_marry.authservice.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis 추가 설정
+ *
+ * - StringRedisTemplate 등 기본 빈은 Spring Boot 자동 설정 사용
+ */
+@Configuration
+public class RedisConfig {
+    /**
+     * pub/sub 구독용 리스너 컨테이너 (Sentinel 커넥션 팩토리 공유)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    /**
+     * 키/값을 바이트 배열 그대로 저장하는 템플릿 (다이제스트 등 바이너리 값 저장용)
+     */
+    @Bean
+    public RedisTemplate<byte[], byte[]> binaryRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<byte[], byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.byteArray());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(RedisSerializer.byteArray());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+}
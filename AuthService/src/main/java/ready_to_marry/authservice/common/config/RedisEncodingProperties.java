@@ -0,0 +1,32 @@
+package ready_to_marry.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * application.properties의 auth.redis.* 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.redis")
+public class RedisEncodingProperties {
+    // 단기 키(OAuth state, 이메일 인증 토큰) 저장 형식
+    private EncodingMode encodingMode = EncodingMode.DUAL;
+
+    // GETDEL 명령 지원 여부 (Redis 6.2 미만이면 false → Lua 스크립트로 대체)
+    private boolean getdelSupported = true;
+
+    public enum EncodingMode {
+        // 기존 문자열 키/값으로 저장·조회
+        LEGACY,
+
+        // 기존 문자열 형식으로 저장, 조회는 기존 → compact 순서로 양쪽 허용 (롤아웃 중 노드 혼재 대비)
+        DUAL,
+
+        // compact 바이너리 형식으로 저장, 조회는 compact → 기존 순서로 양쪽 허용 (기존 키는 TTL 경과 후 자연 소멸)
+        COMPACT
+    }
+}
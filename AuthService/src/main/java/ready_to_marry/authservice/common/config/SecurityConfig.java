@@ -7,12 +7,12 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.ExceptionTranslationFilter;
 import ready_to_marry.authservice.common.jwt.JwtTokenProvider;
 import ready_to_marry.authservice.common.security.JwtRefreshTokenFilter;
+import ready_to_marry.authservice.common.security.PasswordEncoderFactory;
 import ready_to_marry.authservice.common.security.PreAuthHeaderFilter;
 import ready_to_marry.authservice.common.security.RestAccessDeniedHandler;
 import ready_to_marry.authservice.common.security.RestAuthenticationEntryPoint;
@@ -69,7 +69,8 @@ public class SecurityConfig {
                                 "/auth/partners/verify",
                                 "/auth/partners/verify/result",
                                 "/auth/admins/login",
-                                "/auth/token/refresh"
+                                "/auth/token/refresh",
+                                "/.well-known/jwks.json"
                         ).permitAll()
 
                         // 그 외 모든 요청은 인증 필요
@@ -110,10 +111,10 @@ public class SecurityConfig {
 
     /**
      * 로컬 로그인(Controller 내 수동 검증)용
-     * PasswordEncoder 빈
+     * PasswordEncoder 빈 (알고리즘·비용은 auth.password.* 설정, auth.password.calibrate=true일 때만 기동 시 측정)
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordProperties passwordProperties) {
+        return PasswordEncoderFactory.create(passwordProperties);
     }
 }
\ No newline at end of file
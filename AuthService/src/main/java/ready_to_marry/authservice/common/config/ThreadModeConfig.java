@@ -0,0 +1,65 @@
+package ready_to_marry.authservice.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.Executors;
+
+/**
+ * 요청 처리·비동기 작업 실행 스레드 모드 설정
+ *
+ * - auth.virtual-threads.enabled=true: Tomcat 요청 처리와 @Async 메일 발송을 가상 스레드에서 실행
+ *   → JPA·Redis·SMTP·WebClient.block()·@Retryable backoff 대기 중 캐리어 스레드를 반환하므로
+ *     동시 처리량이 스레드 풀 크기가 아니라 I/O 동시성에 의해 결정됨
+ * - false(기본): Tomcat 스레드 풀 + Spring Boot 기본 applicationTaskExecutor
+ * - 모든 메트릭에 thread.mode 태그(virtual | platform)를 붙여 두 모드의 처리량·지연·스레드 수를 비교
+ */
+@Configuration
+@EnableAsync
+@RequiredArgsConstructor
+public class ThreadModeConfig {
+    private final VirtualThreadProperties virtualThreadProperties;
+
+    /**
+     * Tomcat 요청 처리 executor를 요청당 가상 스레드로 교체
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.virtual-threads", name = "enabled", havingValue = "true")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-vt-", 0).factory())
+        );
+    }
+
+    /**
+     * @Async 작업용 executor (작업당 가상 스레드, 풀/큐 없음)
+     * - 이 빈이 있으면 Spring Boot 기본 applicationTaskExecutor는 생성되지 않음
+     */
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    @ConditionalOnProperty(prefix = "auth.virtual-threads", name = "enabled", havingValue = "true")
+    public AsyncTaskExecutor virtualThreadTaskExecutor() {
+        return new SimpleAsyncTaskExecutor(Thread.ofVirtual().name("async-vt-", 0).factory());
+    }
+
+    /**
+     * 실행 모드 공통 태그 (http.server.requests, jvm.threads.*, auth.http.in_flight 등 모드별 비교용)
+     */
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> threadModeCommonTags() {
+        String mode = virtualThreadProperties.isEnabled() ? "virtual" : "platform";
+        return registry -> registry.config().commonTags("thread.mode", mode);
+    }
+}
@@ -0,0 +1,18 @@
+package ready_to_marry.authservice.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * application.properties의 auth.virtual-threads.* 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.virtual-threads")
+public class VirtualThreadProperties {
+    // Tomcat 요청 처리 및 @Async 작업을 가상 스레드에서 실행할지 여부 (false면 플랫폼 스레드 풀)
+    private boolean enabled = false;
+}
@@ -7,6 +7,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
 public class WebClientConfig {
+    // INTERNAL API 재시도 시 중복 생성 방지 헤더
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     @Bean
     @LoadBalanced
     public WebClient.Builder loadBalancedWebClientBuilder() {
@@ -0,0 +1,25 @@
+package ready_to_marry.authservice.common.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 리스트 조회 시 커서(keyset) 페이징 요청 정보 DTO
+ *
+ * - cursor : 이전 응답의 meta.nextCursor (비어 있으면 첫 페이지)
+ * - size   : 한 페이지당 조회할 데이터 개수 (1 ~ 100)
+ */
+@Getter
+@Setter
+public class CursorPagingRequest {
+
+    // 이전 응답의 meta.nextCursor (비어 있으면 첫 페이지)
+    private String cursor;
+
+    // 한 페이지당 조회할 데이터 개수 (1 ~ 100)
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+}
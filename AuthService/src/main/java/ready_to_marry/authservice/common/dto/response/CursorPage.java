@@ -0,0 +1,30 @@
+package ready_to_marry.authservice.common.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 조회 결과
+ *
+ * - COUNT 쿼리 없이 다음 페이지 존재 여부만 확인 (size + 1건 조회)
+ *
+ * @param <T> 항목 타입
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    // 조회된 항목
+    private List<T> content;
+
+    // 요청한 페이지 크기
+    private int size;
+
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    // 다음 페이지 존재 여부
+    private boolean hasNext;
+}
@@ -1,5 +1,6 @@
 package ready_to_marry.authservice.common.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 /**
@@ -9,23 +10,33 @@ import lombok.*;
  * - size          : 페이지당 데이터 개수
  * - totalElements : 전체 데이터 건수
  * - totalPages    : 전체 페이지 수
+ * - nextCursor    : 커서(keyset) 조회 시 다음 페이지 요청에 그대로 전달할 값 (마지막 페이지면 null)
+ * - hasNext       : 커서(keyset) 조회 시 다음 페이지 존재 여부
+ * - 오프셋 조회는 page/totalElements/totalPages, 커서 조회는 nextCursor/hasNext만 채우며 null 항목은 JSON에서 제외
  */
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class Meta {
 
     // 현재 페이지 번호
-    private int page;
+    private Integer page;
 
     // 페이지당 데이터 개수
     private int size;
 
     // 전체 데이터 건수
-    private long totalElements;
+    private Long totalElements;
 
     // 전체 페이지 수
-    private int totalPages;
+    private Integer totalPages;
+
+    // 다음 페이지 커서
+    private String nextCursor;
+
+    // 다음 페이지 존재 여부
+    private Boolean hasNext;
 }
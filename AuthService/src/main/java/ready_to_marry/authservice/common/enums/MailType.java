@@ -0,0 +1,7 @@
+package ready_to_marry.authservice.common.enums;
+
+public enum MailType {
+    PARTNER_VERIFICATION,  // 파트너 이메일 인증 (변수: link)
+    PARTNER_APPROVED,      // 파트너 계정 승인 안내
+    PARTNER_REJECTED       // 파트너 계정 거부 안내 (변수: reason)
+}
@@ -0,0 +1,6 @@
+package ready_to_marry.authservice.common.enums;
+
+public enum OutboxStatus {
+    PENDING,  // 전달 대기 (재시도 포함)
+    FAILED    // 최대 재시도 초과 (dead letter, 수동 확인 필요)
+}
@@ -0,0 +1,7 @@
+package ready_to_marry.authservice.common.enums;
+
+public enum ProvisioningType {
+    PARTNER_PROFILE,         // partner_service 프로필 생성 → auth_account.partner_id
+    ADMIN_PROFILE,           // admin_service 프로필 생성 → auth_account.admin_id
+    PARTNER_PROFILE_DELETE   // partner_service 프로필 삭제 (승인 거부 후 보상 처리, payload: partnerId)
+}
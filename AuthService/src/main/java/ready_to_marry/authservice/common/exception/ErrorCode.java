@@ -25,6 +25,8 @@ public enum ErrorCode {
     REFRESH_TOKEN_INVALID(1311, "Invalid refresh token subject"),
     REFRESH_TOKEN_NOT_FOUND(1312, "Refresh token not found"),
     REFRESH_TOKEN_MISMATCH(1313, "Refresh token does not match"),
+    TOO_MANY_LOGIN_ATTEMPTS(1314, "Too many login attempts, please try again later"),
+    INVALID_PAGE_CURSOR(1315, "Invalid page cursor"),
     DUPLICATE_BUSINESS_NUM(1501, "business number duplicated"),
     NO_SEARCH_RESULT(1502, "no search result"),
     NO_SEARCH_TERM(1503, "can't blank search term"),
@@ -38,7 +40,6 @@ public enum ErrorCode {
     REFRESH_TOKEN_DELETE_FAILURE(2305, "System error occurred while deleting refresh token from redis"),
     REFRESH_TOKEN_RETRIEVE_FAILURE(2306, "System error occurred while retrieving refresh token from redis"),
     VERIFICATION_TOKEN_SAVE_FAILURE(2307, "System error occurred while saving verification token to redis"),
-    VERIFICATION_TOKEN_DELETE_FAILURE(2308, "System error occurred while deleting verification token from redis"),
     VERIFICATION_TOKEN_RETRIEVE_FAILURE(2309, "System error occurred while retrieving verification token from redis"),
     EMAIL_SEND_FAILURE(2310, "System error occurred while sending verification email"),
     JSON_SERIALIZATION_FAILURE(2311, "System error occurred while serializing object to JSON"),
@@ -47,7 +48,9 @@ public enum ErrorCode {
     OAUTH_STATE_RETRIEVE_REMOVE_FAILURE(2314, "System error occurred while retrieving or removing OAuth state"),
     OAUTH_TOKEN_EXCHANGE_FAILURE(2315, "System error occurred while exchanging OAuth token"),
     OAUTH_USERINFO_FAILURE(2316, "System error occurred while fetching user info from OAuth provider"),
-    EXTERNAL_API_FAILURE(2317, "Can't find external API");
+    EXTERNAL_API_FAILURE(2317, "Can't find external API"),
+    PASSWORD_HASHING_BUSY(2318, "Password verification is temporarily overloaded"),
+    JSON_DESERIALIZATION_FAILURE(2319, "System error occurred while deserializing JSON to object");
 
     private final int code;
     private final String message;
@@ -0,0 +1,198 @@
+package ready_to_marry.authservice.common.jwt;
+
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증 키 링 컴포넌트
+ *
+ * - HMAC 모드: jwt.secretKey 하나로 서명·검증 (기존 방식)
+ * - ASYMMETRIC 모드: activeKid 개인키로 서명하고 헤더에 kid를 실어 발급, 검증은 kid → 공개키 맵에서 조회
+ * - 로테이션: 다음 키를 검증 전용으로 먼저 JWKS에 노출 → activeKid 전환 → 이전 키는 notAfter까지 검증만 허용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyRing {
+    private final JwtProperties props;
+
+    // HMAC 모드 서명키 (비대칭 모드에서는 레거시 토큰 검증용)
+    private SecretKey hmacKey;
+
+    // 비대칭 모드 서명 키
+    private String activeKid;
+    private PrivateKey activePrivateKey;
+    private SignatureAlgorithm activeAlgorithm;
+
+    // kid → 검증 키 (기동 시 1회 구성, 이후 읽기 전용)
+    private Map<String, VerificationKey> verificationKeys = Map.of();
+
+    private record VerificationKey(PublicKey publicKey, Instant notAfter, PublicJwk<?> jwk) {
+        boolean isExpired(Instant now) {
+            return notAfter != null && now.isAfter(notAfter);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        if (props.getSecretKey() != null && !props.getSecretKey().isBlank()) {
+            // Base64 디코딩 후 HMAC-SHA256 키 생성
+            byte[] secretBytes = Decoders.BASE64.decode(props.getSecretKey());
+            this.hmacKey = Keys.hmacShaKeyFor(secretBytes);
+        }
+
+        if (props.getSigningMode() == JwtProperties.SigningMode.HMAC) {
+            if (hmacKey == null) {
+                throw new IllegalStateException("jwt.secret-key is required in HMAC signing mode");
+            }
+            return;
+        }
+
+        loadAsymmetricKeys(props.getAsymmetric());
+    }
+
+    private void loadAsymmetricKeys(JwtProperties.Asymmetric asymmetric) {
+        Map<String, VerificationKey> keys = new HashMap<>();
+
+        for (Map.Entry<String, JwtProperties.SigningKey> entry : asymmetric.getKeys().entrySet()) {
+            String kid = entry.getKey();
+            JwtProperties.SigningKey config = entry.getValue();
+            SignatureAlgorithm algorithm = resolveAlgorithm(kid, config.getAlgorithm());
+
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm(algorithm));
+                PublicKey publicKey = keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Decoders.BASE64.decode(config.getPublicKey())));
+
+                PublicJwk<?> jwk = Jwks.builder()
+                        .key(publicKey)
+                        .keyId(kid)
+                        .algorithm(algorithm.getId())
+                        .publicKeyUse("sig")
+                        .build();
+                keys.put(kid, new VerificationKey(publicKey, config.getNotAfter(), jwk));
+
+                if (kid.equals(asymmetric.getActiveKid())) {
+                    if (config.getPrivateKey() == null || config.getPrivateKey().isBlank()) {
+                        throw new IllegalStateException("Active JWT key has no private key: kid=" + kid);
+                    }
+                    this.activePrivateKey = keyFactory.generatePrivate(
+                            new PKCS8EncodedKeySpec(Decoders.BASE64.decode(config.getPrivateKey())));
+                    this.activeAlgorithm = algorithm;
+                    this.activeKid = kid;
+                }
+            } catch (GeneralSecurityException | IllegalArgumentException ex) {
+                throw new IllegalStateException("Invalid JWT key configuration: kid=" + kid, ex);
+            }
+        }
+
+        if (activePrivateKey == null) {
+            throw new IllegalStateException("jwt.asymmetric.active-kid not found in jwt.asymmetric.keys: " + asymmetric.getActiveKid());
+        }
+
+        this.verificationKeys = Map.copyOf(keys);
+        log.info("JWT asymmetric key ring loaded: activeKid={}, kids={}", activeKid, verificationKeys.keySet());
+    }
+
+    private static SignatureAlgorithm resolveAlgorithm(String kid, String algorithm) {
+        if ("ES256".equals(algorithm)) {
+            return Jwts.SIG.ES256;
+        }
+        if ("EdDSA".equals(algorithm)) {
+            return Jwts.SIG.EdDSA;
+        }
+        throw new IllegalStateException("Unsupported JWT key algorithm: kid=" + kid + ", algorithm=" + algorithm);
+    }
+
+    private static String keyFactoryAlgorithm(SignatureAlgorithm algorithm) {
+        return algorithm == Jwts.SIG.ES256 ? "EC" : "Ed25519";
+    }
+
+    /**
+     * 현재 서명 키를 빌더에 적용 (ASYMMETRIC 모드는 kid 헤더 포함)
+     *
+     * @param builder 서명 전 JwtBuilder
+     * @return 서명 키가 적용된 JwtBuilder
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (props.getSigningMode() == JwtProperties.SigningMode.HMAC) {
+            return builder.signWith(hmacKey, Jwts.SIG.HS256);
+        }
+
+        return builder
+                .header().keyId(activeKid).and()
+                .signWith(activePrivateKey, activeAlgorithm);
+    }
+
+    /**
+     * 검증 키 설정을 파서 빌더에 적용
+     *
+     * @param builder JwtParserBuilder
+     * @return 검증 키가 적용된 JwtParserBuilder
+     */
+    public JwtParserBuilder verify(JwtParserBuilder builder) {
+        if (props.getSigningMode() == JwtProperties.SigningMode.HMAC) {
+            return builder.verifyWith(hmacKey);
+        }
+
+        return builder.keyLocator(new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                return locateVerificationKey(header);
+            }
+        });
+    }
+
+    private Key locateVerificationKey(JwsHeader header) {
+        String kid = header.getKeyId();
+
+        // 전환 기간: kid 없는 기존 HS256 토큰
+        if (kid == null) {
+            if (props.getAsymmetric().isAcceptLegacyHmac() && hmacKey != null
+                    && Jwts.SIG.HS256.getId().equals(header.getAlgorithm())) {
+                return hmacKey;
+            }
+            throw new MalformedJwtException("JWT kid header missing");
+        }
+
+        VerificationKey key = verificationKeys.get(kid);
+        if (key == null || key.isExpired(Instant.now())) {
+            throw new MalformedJwtException("Unknown or retired JWT kid: " + kid);
+        }
+        return key.publicKey();
+    }
+
+    /**
+     * JWKS에 노출할 공개키 목록 (만료된 키 제외)
+     *
+     * @return 공개 JWK 목록 (HMAC 모드는 빈 목록)
+     */
+    public List<PublicJwk<?>> publicJwks() {
+        Instant now = Instant.now();
+        return verificationKeys.values().stream()
+                .filter(key -> !key.isExpired(now))
+                .<PublicJwk<?>>map(VerificationKey::jwk)
+                .toList();
+    }
+}
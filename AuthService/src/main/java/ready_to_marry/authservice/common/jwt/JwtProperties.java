@@ -5,10 +5,16 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * JWT 설정 바인딩 클래스
  *
  * - application.properties의 jwt.secretKey, jwt.accessExpiry, jwt.refreshExpiry, jwt.verificationExpiry 프로퍼티를 매핑
+ * - jwt.refreshStorageMode, jwt.signingMode, jwt.asymmetric.* (비대칭 서명 키 링) 프로퍼티를 매핑
  */
 @Getter
 @Setter
@@ -26,4 +32,69 @@ public class JwtProperties {
 
     // 인증 Token 만료 시간(초 단위)
     private long verificationExpiry;
+
+    // 계정당 최대 Refresh 세션(기기) 수 (초과 시 가장 오래 사용되지 않은 세션 제거)
+    private int refreshMaxSessions = 5;
+
+    // Refresh Token Redis 저장 형식 (PLAIN: 원문, DUAL: 원문 저장 + 양쪽 검증, DIGEST: SHA-256 저장 + 양쪽 검증)
+    private RefreshStorageMode refreshStorageMode = RefreshStorageMode.DUAL;
+
+    // 서명 방식 (HMAC: 공유 비밀키, ASYMMETRIC: kid 기반 비대칭 키 링)
+    private SigningMode signingMode = SigningMode.HMAC;
+
+    // 비대칭 서명 설정
+    private Asymmetric asymmetric = new Asymmetric();
+
+    /**
+     * Refresh Token 저장 형식
+     *
+     * - 다이제스트 저장으로 인한 메모리 절감은 DIGEST 모드에서만 적용됨 (기본값 DUAL은 원문을 저장)
+     * - 전환 절차 (필수): 1) 모든 노드를 DUAL로 배포 (원문 저장 + 원문·다이제스트 모두 검증)
+     *                    2) 전 노드 배포 완료 후 DIGEST로 변경 배포 (이후 교체·발급분부터 다이제스트 저장)
+     *                    3) 기존 원문 저장값은 교체 시 다이제스트로 바뀌거나 jwt.refreshExpiry 경과 후 소멸
+     * - DUAL 단계를 건너뛰고 DIGEST로 바로 전환하면 롤링 배포 중 PLAIN 노드가 다이제스트 저장값을 검증하지 못함
+     * - 저장값 비교는 Redis Lua 문자열 비교로 수행하며 상수 시간 비교는 제공하지 않음
+     */
+    public enum RefreshStorageMode {
+        PLAIN,
+        DUAL,
+        DIGEST
+    }
+
+    public enum SigningMode {
+        HMAC,
+        ASYMMETRIC
+    }
+
+    @Getter
+    @Setter
+    public static class Asymmetric {
+        // 신규 토큰 서명에 사용할 키의 kid
+        private String activeKid;
+
+        // kid별 키 설정 (서명 키 + 로테이션 중 검증만 하는 이전/다음 키)
+        private Map<String, SigningKey> keys = new LinkedHashMap<>();
+
+        // HMAC → 비대칭 전환 기간 동안 kid 없는 HS256 토큰 검증 허용 여부
+        private boolean acceptLegacyHmac = true;
+
+        // /.well-known/jwks.json 응답 Cache-Control max-age
+        private Duration jwksCacheTtl = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class SigningKey {
+        // 서명 알고리즘 (ES256, EdDSA)
+        private String algorithm;
+
+        // Base64 인코딩된 PKCS#8 개인키 (검증 전용 키는 생략)
+        private String privateKey;
+
+        // Base64 인코딩된 X.509 공개키
+        private String publicKey;
+
+        // 검증 허용 종료 시각 (이후 검증 및 JWKS 노출에서 제외, 생략 시 무기한)
+        private Instant notAfter;
+    }
 }
@@ -1,32 +1,36 @@
 package ready_to_marry.authservice.common.jwt;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증 컴포넌트
  *
  * - Auth Service 내에서는 주로 Refresh Token 검증 및 신규 토큰 발급에 사용
  * - Gateway가 Access Token을 검증·파싱하여 헤더로 전달하므로, 비즈니스 로직에서는 헤더 값만 활용
+ * - 서명/검증 키 선택(HMAC 또는 kid 기반 비대칭 키 링)은 JwtKeyRing에 위임
  */
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
+    // Refresh Token 세션 ID 클레임 이름
+    public static final String SESSION_ID_CLAIM = "sid";
+
     private final JwtProperties props;
-    private Key key;
+    private final JwtKeyRing keyRing;
+
+    // 기동 시 1회 생성하는 불변 파서 (thread-safe, 요청마다 재생성하지 않음)
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init() {
-        // Base64 디코딩 후 HMAC-SHA256 키 생성
-        byte[] secretBytes = Decoders.BASE64.decode(props.getSecretKey());
-        this.key = Keys.hmacShaKeyFor(secretBytes);
+        this.jwtParser = keyRing.verify(Jwts.parser()).build();
     }
 
     /**
@@ -57,27 +61,29 @@ public class JwtTokenProvider {
             builder.claim("adminRole", claims.getAdminRole());
         }
 
-        return builder
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+        return keyRing.sign(builder).compact();
     }
 
     /**
-     * Refresh Token 생성 (subject만 담음)
+     * Refresh Token 생성 (subject + 세션 ID + 무작위 jti)
+     * - jti로 같은 세션·같은 초에 발급된 토큰도 서로 다른 값이 되도록 보장 (서명 알고리즘과 무관)
      *
-     * @param subject JWT 토큰 subject (accountId)
+     * @param subject   JWT 토큰 subject (accountId)
+     * @param sessionId 세션(기기) ID
      * @return 서명된 JWT 토큰 문자열
      */
-    public String generateRefreshToken(String subject) {
+    public String generateRefreshToken(String subject, String sessionId) {
         Date now = new Date();
         Date exp = new Date(now.getTime() + props.getRefreshExpiry() * 1000);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(exp)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+                .setId(UUID.randomUUID().toString())
+                .claim(SESSION_ID_CLAIM, sessionId);
+
+        return keyRing.sign(builder).compact();
     }
 
     /**
@@ -87,11 +93,22 @@ public class JwtTokenProvider {
      * @return 유효하면 true
      */
     public boolean validateToken(String token) {
+        return verifyAndGetClaims(token).isPresent();
+    }
+
+    /**
+     * JWT 서명·만료 검증 후 검증된 Claims 반환 (1회 파싱)
+     *
+     * - 검증과 파싱을 한 번에 처리하여 같은 요청 안에서 서명을 다시 검증하지 않도록 함
+     *
+     * @param token 검증할 JWT 토큰 문자열
+     * @return 유효하면 검증된 Claims, 아니면 Optional.empty()
+     */
+    public Optional<Claims> verifyAndGetClaims(String token) {
         try {
-            Jwts.parser().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return Optional.of(jwtParser.parseSignedClaims(token).getPayload());
         } catch (JwtException | IllegalArgumentException ignored) {
-            return false;
+            return Optional.empty();
         }
     }
 
@@ -102,7 +119,7 @@ public class JwtTokenProvider {
      * @return Jws<Claims> 객체
      */
     public Jws<Claims> parseClaims(String token) {
-        return Jwts.parser().setSigningKey(key).build().parseClaimsJws(token);
+        return jwtParser.parseSignedClaims(token);
     }
 
     /**
@@ -112,6 +129,6 @@ public class JwtTokenProvider {
      * @return subject 값
      */
     public String getSubject(String token) {
-        return parseClaims(token).getBody().getSubject();
+        return parseClaims(token).getPayload().getSubject();
     }
 }
\ No newline at end of file
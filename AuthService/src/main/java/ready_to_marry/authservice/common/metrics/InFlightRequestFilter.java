@@ -0,0 +1,69 @@
+package ready_to_marry.authservice.common.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시 처리 중인 HTTP 요청 수 게이지 (auth.http.in_flight)
+ *
+ * - jvm.threads.live와 함께 보면 요청 동시성 대비 필요한 스레드 수를 모드(thread.mode)별로 비교 가능
+ * - 비동기 요청(소셜 콜백 등)은 응답이 완료될 때 감소
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class InFlightRequestFilter extends OncePerRequestFilter {
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public InFlightRequestFilter(MeterRegistry meterRegistry) {
+        Gauge.builder("auth.http.in_flight", inFlight, AtomicInteger::get)
+                .description("Number of HTTP requests currently being processed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        inFlight.incrementAndGet();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener());
+            } else {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    // 비동기 요청 완료(정상·타임아웃·오류 모두 onComplete 호출) 시 감소
+    private class CompletionListener implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            inFlight.decrementAndGet();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package ready_to_marry.authservice.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import ready_to_marry.authservice.common.config.RateLimitProperties;
+
+/**
+ * 노드 로컬 토큰 버킷 제한기 (1차 방어)
+ *
+ * - 키별 버킷: 용량 = limit, window 동안 limit개를 균등 충전
+ * - 네트워크 왕복 없이 폭주 트래픽을 먼저 걸러 Redis·DB·해시 비용을 아낌
+ * - window 동안 접근 없는 키는 제거 (최대 localMaximumKeys개)
+ */
+@Component
+public class LocalTokenBucketLimiter {
+    private final long windowNanos;
+    private final Cache<String, TokenBucket> buckets;
+
+    public LocalTokenBucketLimiter(RateLimitProperties props) {
+        this.windowNanos = props.getWindow().toNanos();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(props.getLocalMaximumKeys())
+                .expireAfterAccess(props.getWindow())
+                .build();
+    }
+
+    /**
+     * 키의 버킷에서 토큰 1개 소비 시도
+     *
+     * @param key   제한 대상 키 (예: "ip:1.2.3.4")
+     * @param limit window당 허용 횟수
+     * @return 허용 여부
+     */
+    public boolean tryAcquire(String key, int limit) {
+        return buckets.get(key, k -> new TokenBucket(limit, windowNanos)).tryConsume();
+    }
+
+    private static final class TokenBucket {
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(int capacity, long windowNanos) {
+            this.capacity = capacity;
+            this.refillPerNano = capacity / (double) windowNanos;
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        private synchronized boolean tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+            lastRefillNanos = now;
+
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
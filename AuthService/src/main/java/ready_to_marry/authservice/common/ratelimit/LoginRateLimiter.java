@@ -0,0 +1,91 @@
+package ready_to_marry.authservice.common.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import ready_to_marry.authservice.common.config.RateLimitProperties;
+import ready_to_marry.authservice.common.exception.BusinessException;
+import ready_to_marry.authservice.common.exception.ErrorCode;
+import ready_to_marry.authservice.common.util.CompactRedisCodec;
+import ready_to_marry.authservice.common.util.MaskingUtil;
+import ready_to_marry.authservice.common.util.TokenDigestUtil;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 로그인 시도 제한 (loginId별 + 클라이언트 IP별)
+ *
+ * - 계정 조회·비밀번호 해시 전에 호출하여 무차별 대입·크리덴셜 스터핑 트래픽을 저비용으로 차단
+ * - 1차: 노드 로컬 토큰 버킷 / 2차: Redis 슬라이딩 윈도 (노드 간 공유 한도)
+ * - Redis 장애 시 로컬 제한만 적용 (fail-open)
+ * - 지표: auth.ratelimit.rejected(tier=local|redis, key=loginId|ip), auth.ratelimit.redis.failures
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginRateLimiter {
+    private final RateLimitProperties props;
+    private final LocalTokenBucketLimiter localLimiter;
+    private final RedisSlidingWindowLimiter redisLimiter;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 로그인 시도 허용 여부 확인
+     * 1) 로컬 토큰 버킷 (IP → loginId)
+     * 2) Redis 슬라이딩 윈도 (IP + loginId 한 번에)
+     *
+     * @param scope                     로그인 종류 (partner, admin)
+     * @param loginId                   요청된 loginId
+     * @param clientIp                  클라이언트 IP
+     * @throws BusinessException        TOO_MANY_LOGIN_ATTEMPTS
+     */
+    public void check(String scope, String loginId, String clientIp) {
+        if (!props.isEnabled()) {
+            return;
+        }
+
+        // loginId는 원문 대신 다이제스트로 키 구성 (대소문자 무시)
+        String loginIdKey = scope + ":id:" + CompactRedisCodec.encodeBase64Url(TokenDigestUtil.sha256(loginId.toLowerCase(Locale.ROOT)));
+        String ipKey = scope + ":ip:" + clientIp;
+
+        // 1) 로컬 토큰 버킷 (IP → loginId)
+        if (!localLimiter.tryAcquire(ipKey, props.getIpLimit())) {
+            reject("local", "ip", loginId, clientIp);
+        }
+        if (!localLimiter.tryAcquire(loginIdKey, props.getLoginIdLimit())) {
+            reject("local", "loginId", loginId, clientIp);
+        }
+
+        // 2) Redis 슬라이딩 윈도 (IP + loginId 한 번에)
+        int exceeded;
+        try {
+            exceeded = redisLimiter.tryAcquire(
+                    List.of(props.getRedisKeyPrefix() + ipKey, props.getRedisKeyPrefix() + loginIdKey),
+                    List.of(props.getIpLimit(), props.getLoginIdLimit()),
+                    props.getWindow()
+            );
+        } catch (DataAccessException ex) {
+            // Redis 장애 시 로그인 자체를 막지 않음
+            meterRegistry.counter("auth.ratelimit.redis.failures").increment();
+            log.warn("Login rate limit store unavailable, applying local limits only: scope={}", scope, ex);
+            return;
+        }
+
+        if (exceeded == 1) {
+            reject("redis", "ip", loginId, clientIp);
+        }
+        if (exceeded == 2) {
+            reject("redis", "loginId", loginId, clientIp);
+        }
+    }
+
+    private void reject(String tier, String keyType, String loginId, String clientIp) {
+        meterRegistry.counter("auth.ratelimit.rejected", "tier", tier, "key", keyType).increment();
+        log.warn("{}: identifierType=loginId, identifierValue={}, clientIp={}, tier={}, key={}",
+                ErrorCode.TOO_MANY_LOGIN_ATTEMPTS.getMessage(), MaskingUtil.maskGenericLoginId(loginId), clientIp, tier, keyType);
+        throw new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+}
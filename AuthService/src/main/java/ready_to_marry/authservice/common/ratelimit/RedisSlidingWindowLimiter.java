@@ -0,0 +1,62 @@
+package ready_to_marry.authservice.common.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis ZSET 기반 슬라이딩 윈도 제한기 (노드 간 공유 한도)
+ *
+ * - 키별 ZSET에 시도 시각(ms)을 저장, window 밖 항목은 매 호출마다 정리
+ * - 여러 키(loginId, IP)를 한 번의 Lua 호출로 검사하고, 모두 통과한 경우에만 시도를 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisSlidingWindowLimiter {
+    // - KEYS[i] = 제한 대상 키, ARGV[1] = 현재 시각(ms), ARGV[2] = window(ms), ARGV[3] = 멤버, ARGV[3 + i] = KEYS[i]의 한도
+    // - 반환값: 0 = 허용, i = 한도를 초과한 KEYS[i]의 인덱스
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            for i, key in ipairs(KEYS) do
+                redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+                if redis.call('ZCARD', key) >= tonumber(ARGV[3 + i]) then
+                    return i
+                end
+            end
+            for _, key in ipairs(KEYS) do
+                redis.call('ZADD', key, now, ARGV[3])
+                redis.call('PEXPIRE', key, window)
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 모든 키가 한도 이내이면 시도를 기록하고 허용
+     *
+     * @param keys   제한 대상 키 목록
+     * @param limits keys와 같은 순서의 window당 한도
+     * @param window 슬라이딩 윈도 크기
+     * @return 0이면 허용, 그 외에는 한도를 초과한 키의 1부터 시작하는 인덱스
+     */
+    public int tryAcquire(List<String> keys, List<Integer> limits, Duration window) {
+        String[] args = new String[3 + limits.size()];
+        args[0] = String.valueOf(System.currentTimeMillis());
+        args[1] = String.valueOf(window.toMillis());
+        args[2] = UUID.randomUUID().toString();
+        for (int i = 0; i < limits.size(); i++) {
+            args[3 + i] = String.valueOf(limits.get(i));
+        }
+
+        Long result = redisTemplate.execute(ACQUIRE_SCRIPT, keys, (Object[]) args);
+        return result == null ? 0 : result.intValue();
+    }
+}
@@ -0,0 +1,56 @@
+package ready_to_marry.authservice.common.redis;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 레플리카 간 단일 실행을 보장하는 Redis 락 (SET NX PX + 소유 토큰 비교 해제)
+ *
+ * - 락 보유 노드가 죽어도 TTL 경과 후 자동 해제
+ * - 해제는 소유 토큰이 같을 때만 수행 (TTL 만료 후 다른 노드가 잡은 락을 지우지 않음)
+ */
+@Component
+public class RedisLockOperations {
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisLockOperations(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 락 획득 시도
+     *
+     * @param key 락 키
+     * @param ttl 락 최대 보유 시간
+     * @return 획득 시 소유 토큰 (다른 노드가 보유 중이면 Optional.empty())
+     */
+    public Optional<String> tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    /**
+     * 소유 토큰이 같을 때만 락 해제
+     *
+     * @param key   락 키
+     * @param token tryLock이 반환한 소유 토큰
+     */
+    public void unlock(String key, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+    }
+}
@@ -0,0 +1,49 @@
+package ready_to_marry.authservice.common.redis;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import ready_to_marry.authservice.common.config.RedisEncodingProperties;
+
+import java.util.List;
+
+/**
+ * 1회용 키를 조회와 동시에 삭제하는 원자적 take 연산
+ *
+ * - Redis 6.2+: GETDEL 1회 왕복
+ * - 그 이전 서버: GET + DEL Lua 스크립트 (auth.redis.getdel-supported=false)
+ * - 동시에 같은 키를 take해도 한 요청만 값을 받음 (정확히 1회 소비)
+ */
+@Component
+public class RedisTakeOperations {
+    private static final RedisScript<byte[]> TAKE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('GET', KEYS[1])
+            if value then
+                redis.call('DEL', KEYS[1])
+            end
+            return value
+            """, byte[].class);
+
+    private final RedisTemplate<byte[], byte[]> redisTemplate;
+    private final RedisEncodingProperties encodingProperties;
+
+    public RedisTakeOperations(RedisTemplate<byte[], byte[]> binaryRedisTemplate,
+                               RedisEncodingProperties encodingProperties) {
+        this.redisTemplate = binaryRedisTemplate;
+        this.encodingProperties = encodingProperties;
+    }
+
+    /**
+     * 키의 값을 반환하고 삭제
+     *
+     * @param key 소비할 키
+     * @return 저장된 값 (없으면 null)
+     */
+    public byte[] take(byte[] key) {
+        if (encodingProperties.isGetdelSupported()) {
+            return redisTemplate.opsForValue().getAndDelete(key);
+        }
+        return redisTemplate.execute(TAKE_SCRIPT, List.of(key));
+    }
+}
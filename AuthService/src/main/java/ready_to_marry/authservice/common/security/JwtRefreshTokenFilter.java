@@ -1,5 +1,6 @@
 package ready_to_marry.authservice.common.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,9 +19,13 @@ import java.io.IOException;
  * 리프레시 엔드포인트 전용 필터
  * JWT Signature + 만료(exp) 검증만 수행
  * Redis 등 저장소 검증은 Service 레이어에서 처리
+ * 검증된 Claims는 request attribute로 전달하여 Service 레이어에서 재검증하지 않음
  */
 @RequiredArgsConstructor
 public class JwtRefreshTokenFilter extends OncePerRequestFilter {
+    // 검증된 refresh 토큰 Claims를 담는 request attribute 이름
+    public static final String VERIFIED_CLAIMS_ATTRIBUTE = "verifiedRefreshClaims";
+
     private final JwtTokenProvider jwtTokenProvider;
 
     @Override
@@ -40,11 +45,11 @@ public class JwtRefreshTokenFilter extends OncePerRequestFilter {
         }
 
         String token = auth.substring(7);
-        if (!jwtTokenProvider.validateToken(token)) {
-            throw new BadCredentialsException("Invalid refresh token");
-        }
+        Claims claims = jwtTokenProvider.verifyAndGetClaims(token)
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
 
-        // 단순 검증만 통과하면 비즈니스 로직으로 넘김
+        // 단순 검증만 통과하면 검증된 Claims와 함께 비즈니스 로직으로 넘김
+        request.setAttribute(VERIFIED_CLAIMS_ATTRIBUTE, claims);
         chain.doFilter(request, response);
     }
 }
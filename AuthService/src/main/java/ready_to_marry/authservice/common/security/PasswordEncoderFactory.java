@@ -0,0 +1,113 @@
+package ready_to_marry.authservice.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import ready_to_marry.authservice.common.config.PasswordProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * 설정(auth.password.*) 기반 PasswordEncoder 생성
+ *
+ * - {bcrypt}, {argon2} 접두어로 알고리즘을 구분하는 DelegatingPasswordEncoder
+ * - 접두어 없는 기존 해시는 BCrypt로 검증 (upgradeEncoding=true → 로그인 시 재해시 대상)
+ * - 비용은 설정값 사용 (기본 BCrypt 10), auth.password.calibrate=true일 때만 기동 시점에 실제 해시 시간을 측정해
+ *   target-latency 이내의 가장 높은 비용 선택
+ */
+@Slf4j
+public class PasswordEncoderFactory {
+    private static final int BCRYPT_MIN_COST = 10;
+    private static final int BCRYPT_MAX_COST = 16;
+    private static final int ARGON2_MIN_COST = 2;
+    private static final int ARGON2_MAX_COST = 10;
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int ARGON2_PARALLELISM = 1;
+
+    // 측정용 샘플 비밀번호 / 측정 반복 횟수 (최솟값 사용)
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLE_RUNS = 3;
+
+    private PasswordEncoderFactory() {
+        // 유틸 클래스이므로 인스턴스 생성 방지
+    }
+
+    public static PasswordEncoder create(PasswordProperties props) {
+        // 1) 알고리즘별 비용 결정 (설정값, 명시적으로 켠 경우에만 기동 시 측정)
+        IntFunction<PasswordEncoder> encoderForCost = switch (props.getAlgorithm()) {
+            case BCRYPT -> BCryptPasswordEncoder::new;
+            case ARGON2 -> cost -> argon2(props.getArgon2MemoryKib(), cost);
+        };
+        int cost;
+        if (props.isCalibrate()) {
+            cost = calibrate(props.getAlgorithm(), encoderForCost, props.getTargetLatency());
+        } else if (props.getCost() > 0) {
+            cost = props.getCost();
+        } else {
+            cost = props.getAlgorithm() == PasswordProperties.Algorithm.BCRYPT ? BCRYPT_MIN_COST : ARGON2_MIN_COST;
+        }
+
+        // 2) 신규 해시용 인코더 + 검증 전용 인코더 등록
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder());
+        encoders.put("argon2", argon2(props.getArgon2MemoryKib(), ARGON2_MIN_COST));
+
+        String idForEncode = props.getAlgorithm().name().toLowerCase();
+        encoders.put(idForEncode, encoderForCost.apply(cost));
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(idForEncode, encoders);
+
+        // 3) 접두어 없는 기존 해시는 BCrypt로 검증
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        log.info("Password encoder configured: algorithm={}, cost={}, calibrated={}",
+                props.getAlgorithm(), cost, props.isCalibrate());
+        return delegating;
+    }
+
+    // 최소 비용부터 올려가며 측정, 목표 시간을 넘기 직전 비용 선택 (최소 비용은 목표를 넘어도 보장)
+    private static int calibrate(PasswordProperties.Algorithm algorithm, IntFunction<PasswordEncoder> encoderForCost, Duration targetLatency) {
+        int minCost = algorithm == PasswordProperties.Algorithm.BCRYPT ? BCRYPT_MIN_COST : ARGON2_MIN_COST;
+        int maxCost = algorithm == PasswordProperties.Algorithm.BCRYPT ? BCRYPT_MAX_COST : ARGON2_MAX_COST;
+        long budgetNanos = targetLatency.toNanos();
+
+        int chosen = minCost;
+        for (int cost = minCost; cost <= maxCost; cost++) {
+            long elapsed = measure(encoderForCost.apply(cost));
+            log.debug("Password hash calibration: algorithm={}, cost={}, elapsed={}ms", algorithm, cost, elapsed / 1_000_000);
+
+            if (elapsed > budgetNanos) {
+                if (cost == minCost) {
+                    log.warn("Password hash exceeds target latency at minimum cost: algorithm={}, cost={}, elapsed={}ms",
+                            algorithm, cost, elapsed / 1_000_000);
+                }
+                break;
+            }
+            chosen = cost;
+        }
+        return chosen;
+    }
+
+    private static long measure(PasswordEncoder encoder) {
+        // 워밍업 겸 검증 대상 해시 생성
+        String encoded = encoder.encode(SAMPLE_PASSWORD);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLE_RUNS; i++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, encoded);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static Argon2PasswordEncoder argon2(int memoryKib, int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, ARGON2_PARALLELISM, memoryKib, iterations);
+    }
+}
@@ -0,0 +1,208 @@
+package ready_to_marry.authservice.common.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import ready_to_marry.authservice.account.service.AccountService;
+import ready_to_marry.authservice.common.config.PasswordProperties;
+import ready_to_marry.authservice.common.exception.ErrorCode;
+import ready_to_marry.authservice.common.exception.InfrastructureException;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 실행기
+ *
+ * - CPU 바운드 해시 연산을 코어 수 크기의 고정 풀에서 실행하여, 로그인 폭주 시에도 요청 스레드·CPU를 리프레시 등 다른 트래픽과 나눠 씀
+ * - 대기열이 가득 차거나 대기 시간이 auth.password.executor.timeout을 넘으면 즉시 PASSWORD_HASHING_BUSY로 거절
+ * - 로그인 성공 시 약한 해시를 현재 설정으로 재해시하는 처리(upgradeIfNeeded)를 파트너·관리자 로그인이 함께 사용
+ *   (재해시는 applicationTaskExecutor에서 비동기로 수행하여 로그인 응답 경로에 해시 연산을 추가하지 않음)
+ * - 지표: auth.password.hash.duration(op=matches|encode), auth.password.hash.queue.wait, auth.password.hash.rejected,
+ *         auth.password.hash.executor.* (대기열 크기, 활성 스레드 수 등)
+ */
+@Slf4j
+@Component
+public class PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final AccountService accountService;
+    private final AsyncTaskExecutor upgradeExecutor;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  AccountService accountService,
+                                  @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor upgradeExecutor,
+                                  PasswordProperties passwordProperties,
+                                  MeterRegistry meterRegistry) {
+        PasswordProperties.Executor props = passwordProperties.getExecutor();
+        int threads = props.getThreads() > 0 ? props.getThreads() : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = passwordEncoder;
+        this.accountService = accountService;
+        this.upgradeExecutor = upgradeExecutor;
+        this.timeoutMillis = props.getTimeout().toMillis();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(props.getQueueCapacity()),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.matchesTimer = Timer.builder("auth.password.hash.duration")
+                .tag("op", "matches")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hash.duration")
+                .tag("op", "encode")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.hash.queue.wait")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .register(meterRegistry);
+
+        // 대기열 크기, 활성 스레드 수, 완료 작업 수
+        new ExecutorServiceMetrics(executor, "auth.password.hash.executor", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * 평문 비밀번호와 저장된 해시 비교
+     *
+     * @param rawPassword               평문 비밀번호
+     * @param encodedPassword           저장된 해시
+     * @return 일치 여부
+     * @throws InfrastructureException  PASSWORD_HASHING_BUSY
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 평문 비밀번호 해시
+     *
+     * @param rawPassword               평문 비밀번호
+     * @return 인코딩된 해시
+     * @throws InfrastructureException  PASSWORD_HASHING_BUSY
+     */
+    public String encode(String rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 저장된 해시가 현재 알고리즘·비용 설정보다 약한지 확인 (해시 연산 없음)
+     *
+     * @param encodedPassword           저장된 해시
+     * @return 재해시 필요 여부
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 로그인에 성공한 계정의 저장된 해시가 현재 알고리즘·비용보다 약하면 비동기로 재해시 후 저장
+     * - 판단(해시 연산 없음)만 요청 스레드에서 하고, 재해시·저장은 applicationTaskExecutor에서 수행
+     * - 저장된 해시가 그대로일 때만 교체하며, 실패·거절되면 다음 로그인에서 다시 시도
+     *
+     * @param accountId                 로그인한 계정의 UUID
+     * @param encodedPassword           로그인 시 검증한 저장된 해시
+     * @param rawPassword               검증을 통과한 평문 비밀번호
+     */
+    public void upgradeIfNeeded(UUID accountId, String encodedPassword, String rawPassword) {
+        if (!needsRehash(encodedPassword)) {
+            return;
+        }
+
+        try {
+            upgradeExecutor.execute(() -> upgrade(accountId, encodedPassword, rawPassword));
+        } catch (TaskRejectedException ex) {
+            log.warn("Failed to upgrade password hash: identifierType=accountId, identifierValue={}", accountId, ex);
+        }
+    }
+
+    private void upgrade(UUID accountId, String encodedPassword, String rawPassword) {
+        try {
+            String upgraded = encode(rawPassword);
+            accountService.updatePassword(accountId, encodedPassword, upgraded);
+        } catch (InfrastructureException | DataAccessException ex) {
+            log.warn("Failed to upgrade password hash: identifierType=accountId, identifierValue={}", accountId, ex);
+        }
+    }
+
+    private <T> T execute(Timer durationTimer, Callable<T> task) {
+        // 1) 대기열 투입 (가득 차면 즉시 거절)
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return durationTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            log.warn("{}: reason=queueFull, queued={}", ErrorCode.PASSWORD_HASHING_BUSY.getMessage(), executor.getQueue().size());
+            throw new InfrastructureException(ErrorCode.PASSWORD_HASHING_BUSY, ex);
+        }
+
+        // 2) 결과 대기 (대기 시간 초과 시 작업 취소 후 거절)
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn("{}: reason=timeout, queued={}", ErrorCode.PASSWORD_HASHING_BUSY.getMessage(), executor.getQueue().size());
+            throw new InfrastructureException(ErrorCode.PASSWORD_HASHING_BUSY, ex);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InfrastructureException(ErrorCode.PASSWORD_HASHING_BUSY, ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeEx) {
+                throw runtimeEx;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -42,7 +42,8 @@ public class PreAuthHeaderFilter extends OncePerRequestFilter {
             "/auth/partners/verify",
             "/auth/partners/verify/result",
             "/auth/admins/login",
-            "/auth/token/refresh"
+            "/auth/token/refresh",
+            "/.well-known/jwks.json"
     );
 
     @Override
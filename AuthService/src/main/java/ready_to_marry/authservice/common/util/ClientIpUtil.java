@@ -0,0 +1,31 @@
+package ready_to_marry.authservice.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public final class ClientIpUtil {
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private ClientIpUtil() {
+        // 유틸 클래스이므로 인스턴스 생성 방지
+    }
+
+    /**
+     * 클라이언트 IP 추출
+     * 프록시는 X-Forwarded-For 뒤쪽에 값을 덧붙이므로 앞쪽 값은 클라이언트가 임의로 넣을 수 있음
+     * → 오른쪽에서 trustedProxies번째 값(신뢰하는 가장 바깥 프록시가 기록한 접속 IP)을 사용, 헤더가 없거나 trustedProxies <= 0이면 remoteAddr
+     *
+     * @param request        요청
+     * @param trustedProxies X-Forwarded-For에 값을 덧붙이는 신뢰 프록시 수 (Gateway만 있으면 1)
+     * @return 클라이언트 IP
+     */
+    public static String resolve(HttpServletRequest request, int trustedProxies) {
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (trustedProxies <= 0 || forwardedFor == null || forwardedFor.isBlank()) {
+            return request.getRemoteAddr();
+        }
+
+        String[] hops = forwardedFor.split(",");
+        String hop = hops[Math.max(hops.length - trustedProxies, 0)].trim();
+        return hop.isEmpty() ? request.getRemoteAddr() : hop;
+    }
+}
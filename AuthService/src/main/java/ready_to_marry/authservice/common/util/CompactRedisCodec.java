@@ -0,0 +1,71 @@
+package ready_to_marry.authservice.common.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 단기 Redis 키/값의 compact 바이너리 인코딩
+ *
+ * - UUID: 36자 문자열 → 16바이트
+ * - PKCE verifier: 43자 URL-safe Base64 → 32바이트
+ * - 키 접두어: 2바이트 약어 + ':' (예: "os:", "vt:")
+ */
+public final class CompactRedisCodec {
+    private static final int UUID_LENGTH = 16;
+
+    private CompactRedisCodec() {
+        // 유틸 클래스이므로 인스턴스 생성 방지
+    }
+
+    /**
+     * 접두어 + 16바이트 UUID 키
+     */
+    public static byte[] uuidKey(String prefix, UUID id) {
+        byte[] prefixBytes = prefix.getBytes(StandardCharsets.US_ASCII);
+        return ByteBuffer.allocate(prefixBytes.length + UUID_LENGTH)
+                .put(prefixBytes)
+                .put(toBytes(id))
+                .array();
+    }
+
+    /**
+     * UUID → 16바이트
+     */
+    public static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(UUID_LENGTH)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * 16바이트 → UUID
+     */
+    public static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * URL-safe Base64 문자열 → 원본 바이트
+     */
+    public static byte[] decodeBase64Url(String value) {
+        return Base64.getUrlDecoder().decode(value);
+    }
+
+    /**
+     * 원본 바이트 → URL-safe Base64 문자열 (패딩 없음)
+     */
+    public static String encodeBase64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 문자열 키 (기존 형식)
+     */
+    public static byte[] stringKey(String prefix, String id) {
+        return (prefix + id).getBytes(StandardCharsets.UTF_8);
+    }
+}
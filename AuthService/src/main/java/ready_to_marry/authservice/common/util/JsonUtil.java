@@ -1,6 +1,7 @@
 package ready_to_marry.authservice.common.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -31,4 +32,32 @@ public final class JsonUtil {
             throw new InfrastructureException(ErrorCode.JSON_SERIALIZATION_FAILURE, ex);
         }
     }
+
+    /**
+     * JSON 문자열을 객체로 역직렬화
+     *
+     * @throws InfrastructureException JSON_DESERIALIZATION_FAILURE
+     */
+    public static <T> T fromJson(String json, Class<T> type) {
+        try {
+            return MAPPER.readValue(json, type);
+        } catch (JsonProcessingException ex) {
+            log.error("{}: identifierType=class, identifierValue={}", ErrorCode.JSON_DESERIALIZATION_FAILURE.getMessage(), type.getSimpleName(), ex);
+            throw new InfrastructureException(ErrorCode.JSON_DESERIALIZATION_FAILURE, ex);
+        }
+    }
+
+    /**
+     * JSON 문자열을 제네릭 타입 객체로 역직렬화 (예: Map<String, String>)
+     *
+     * @throws InfrastructureException JSON_DESERIALIZATION_FAILURE
+     */
+    public static <T> T fromJson(String json, TypeReference<T> type) {
+        try {
+            return MAPPER.readValue(json, type);
+        } catch (JsonProcessingException ex) {
+            log.error("{}: identifierType=type, identifierValue={}", ErrorCode.JSON_DESERIALIZATION_FAILURE.getMessage(), type.getType().getTypeName(), ex);
+            throw new InfrastructureException(ErrorCode.JSON_DESERIALIZATION_FAILURE, ex);
+        }
+    }
 }
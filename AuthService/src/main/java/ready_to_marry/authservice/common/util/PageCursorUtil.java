@@ -0,0 +1,53 @@
+package ready_to_marry.authservice.common.util;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * (created_at, account_id) keyset 커서 인코딩/디코딩
+ *
+ * - 형식: epochSecond(8) + nano(4) + UUID(16) = 28바이트 → URL-safe Base64 (클라이언트에는 불투명 문자열)
+ */
+public final class PageCursorUtil {
+    private static final int CURSOR_BYTES = Long.BYTES + Integer.BYTES + 16;
+
+    private PageCursorUtil() {
+        // 유틸 클래스이므로 인스턴스 생성 방지
+    }
+
+    /**
+     * 마지막 항목의 (createdAt, accountId) → 커서 문자열
+     */
+    public static String encode(OffsetDateTime createdAt, UUID accountId) {
+        Instant instant = createdAt.toInstant();
+        ByteBuffer buffer = ByteBuffer.allocate(CURSOR_BYTES)
+                .putLong(instant.getEpochSecond())
+                .putInt(instant.getNano())
+                .putLong(accountId.getMostSignificantBits())
+                .putLong(accountId.getLeastSignificantBits());
+        return CompactRedisCodec.encodeBase64Url(buffer.array());
+    }
+
+    /**
+     * 커서 문자열 → (createdAt, accountId)
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    public static Cursor decode(String cursor) {
+        byte[] bytes = CompactRedisCodec.decodeBase64Url(cursor);
+        if (bytes.length != CURSOR_BYTES) {
+            throw new IllegalArgumentException("Invalid cursor length: " + bytes.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        Instant instant = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+        UUID accountId = new UUID(buffer.getLong(), buffer.getLong());
+        return new Cursor(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC), accountId);
+    }
+
+    public record Cursor(OffsetDateTime createdAt, UUID accountId) {
+    }
+}
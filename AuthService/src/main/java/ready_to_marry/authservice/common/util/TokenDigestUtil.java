@@ -0,0 +1,28 @@
+package ready_to_marry.authservice.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Refresh Token 저장용 다이제스트 유틸
+ *
+ * - 다이제스트 계산만 담당하며, 저장값 비교는 RedisRefreshTokenRepository의 Lua 스크립트에서 수행 (상수 시간 비교 아님)
+ */
+public final class TokenDigestUtil {
+    private TokenDigestUtil() {
+        // 유틸 클래스이므로 인스턴스 생성 방지
+    }
+
+    /**
+     * 토큰 문자열의 SHA-256 다이제스트 (32바이트 바이너리)
+     */
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            // 모든 JVM에 SHA-256 구현이 포함되어 있으므로 발생하지 않음
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package ready_to_marry.authservice.mail.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 auth.mail-queue.* 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.mail-queue")
+public class MailQueueProperties {
+    // 메일 큐 발송 사용 여부
+    private boolean enabled = true;
+
+    // 폴링 간격 (@Scheduled에서 ISO-8601 형식으로 참조, 예: PT2S)
+    private Duration interval = Duration.ofSeconds(2);
+
+    // 발송 워커 수 (= 동시 SMTP 연결 수)
+    private int workers = 2;
+
+    // 워커 1개가 SMTP 연결 하나로 연속 발송할 최대 메일 수
+    private int batchSize = 20;
+
+    // 선점 유지 시간 (이 안에 결과를 기록하지 못하면 다시 발송 대상)
+    // 묶음 최악 소요 시간(SMTP connectiontimeout + batchSize * (timeout + writetimeout))보다 길어야 함
+    private Duration lease = Duration.ofMinutes(10);
+
+    // 최대 발송 시도 횟수 (초과 시 FAILED)
+    private int maxAttempts = 8;
+
+    // 재시도 간격 (시도마다 2배, 최대 maxBackoff)
+    private Duration initialBackoff = Duration.ofSeconds(10);
+    private Duration maxBackoff = Duration.ofMinutes(30);
+}
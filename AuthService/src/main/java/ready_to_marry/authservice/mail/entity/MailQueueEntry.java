@@ -0,0 +1,68 @@
+package ready_to_marry.authservice.mail.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import ready_to_marry.authservice.common.enums.MailType;
+import ready_to_marry.authservice.common.enums.OutboxStatus;
+
+import java.time.OffsetDateTime;
+
+/**
+ * auth_db.mail_queue 테이블 매핑 엔티티
+ *
+ * - 요청 트랜잭션 안에서 적재되고, MailQueueWorker가 커밋 후 발송
+ * - 발송 성공 시 행 삭제, 최대 재시도 초과 시 FAILED로 보관
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "mail_queue")
+public class MailQueueEntry {
+    // PK (자동 생성)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_id", updatable = false, nullable = false)
+    private Long id;
+
+    // 메일 종류 (템플릿·제목 결정)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mail_type", length = 40, nullable = false)
+    private MailType mailType;
+
+    // 수신자 이메일 주소
+    @Column(name = "recipient", length = 255, nullable = false)
+    private String recipient;
+
+    // 템플릿 변수 (JSON 객체)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "variables", columnDefinition = "jsonb", nullable = false)
+    private String variables;
+
+    // 발송 상태 (PENDING / FAILED)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private OutboxStatus status;
+
+    // 발송 시도 횟수
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 다음 발송 가능 시각 (발송 중에는 임대 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    // 마지막 실패 사유
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 적재 시각
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,50 @@
+package ready_to_marry.authservice.mail.service;
+
+import ready_to_marry.authservice.common.enums.MailType;
+import ready_to_marry.authservice.common.exception.InfrastructureException;
+import ready_to_marry.authservice.mail.entity.MailQueueEntry;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메일 발송 큐(mail_queue) 적재/선점/결과 기록
+ */
+public interface MailQueueService {
+    /**
+     * 메일 적재 (호출한 트랜잭션에 참여하여 함께 커밋, 롤백 시 발송되지 않음)
+     *
+     * @param mailType                  메일 종류
+     * @param recipient                 수신자 이메일 주소
+     * @param variables                 템플릿 변수
+     * @throws InfrastructureException  JSON_SERIALIZATION_FAILURE
+     */
+    void enqueue(MailType mailType, String recipient, Map<String, String> variables);
+
+    /**
+     * 발송 가능한 메일을 최대 limit건 선점
+     *
+     * @param limit 선점할 최대 건수
+     * @param lease 선점 유지 시간
+     * @return 선점된 메일 목록
+     */
+    List<MailQueueEntry> claim(int limit, Duration lease);
+
+    /**
+     * 발송 완료 메일 일괄 삭제
+     *
+     * @param ids 메일 ID 목록
+     */
+    void complete(List<Long> ids);
+
+    /**
+     * 발송 실패 기록 (nextAttemptAt이 null이면 재시도 중단)
+     *
+     * @param id            메일 ID
+     * @param nextAttemptAt 다음 발송 가능 시각
+     * @param error         실패 사유
+     */
+    void fail(Long id, OffsetDateTime nextAttemptAt, String error);
+}
@@ -0,0 +1,65 @@
+package ready_to_marry.authservice.mail.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ready_to_marry.authservice.common.enums.MailType;
+import ready_to_marry.authservice.common.enums.OutboxStatus;
+import ready_to_marry.authservice.common.util.JsonUtil;
+import ready_to_marry.authservice.mail.entity.MailQueueEntry;
+import ready_to_marry.authservice.mail.repository.MailQueueRepository;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class MailQueueServiceImpl implements MailQueueService {
+    // last_error 컬럼 길이
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MailQueueRepository mailQueueRepository;
+
+    @Override
+    @Transactional
+    public void enqueue(MailType mailType, String recipient, Map<String, String> variables) {
+        MailQueueEntry entry = MailQueueEntry.builder()
+                .mailType(mailType)
+                .recipient(recipient)
+                .variables(JsonUtil.toJson(variables))
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(OffsetDateTime.now())
+                .build();
+        mailQueueRepository.save(entry);
+    }
+
+    @Override
+    @Transactional
+    public List<MailQueueEntry> claim(int limit, Duration lease) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return mailQueueRepository.claimDue(now, now.plus(lease), limit);
+    }
+
+    @Override
+    @Transactional
+    public void complete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        mailQueueRepository.deleteAllByIdInBatch(ids);
+    }
+
+    @Override
+    @Transactional
+    public void fail(Long id, OffsetDateTime nextAttemptAt, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (nextAttemptAt == null) {
+            mailQueueRepository.updateFailure(id, OutboxStatus.FAILED, OffsetDateTime.now(), lastError);
+            return;
+        }
+        mailQueueRepository.updateFailure(id, OutboxStatus.PENDING, nextAttemptAt, lastError);
+    }
+}
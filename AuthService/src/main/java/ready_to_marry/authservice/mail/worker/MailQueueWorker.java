@@ -0,0 +1,262 @@
+package ready_to_marry.authservice.mail.worker;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ready_to_marry.authservice.common.exception.ErrorCode;
+import ready_to_marry.authservice.common.util.JsonUtil;
+import ready_to_marry.authservice.common.util.MaskingUtil;
+import ready_to_marry.authservice.mail.config.MailQueueProperties;
+import ready_to_marry.authservice.mail.entity.MailQueueEntry;
+import ready_to_marry.authservice.mail.service.MailQueueService;
+import ready_to_marry.authservice.partner.email.EmailProperties;
+import ready_to_marry.authservice.partner.email.EmailRenderer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * mail_queue 발송 워커
+ *
+ * - workers * batch-size건을 선점 후 batch-size씩 나눠 고정 크기 워커 풀에서 발송
+ * - 워커 1개는 SMTP 연결 하나로 묶음 전체를 연속 발송 (메일마다 새 세션을 열지 않음)
+ * - 메일별 결과 기록: 성공은 일괄 삭제, 실패는 지수 백오프 재시도, max-attempts 초과 시 FAILED(dead letter)
+ * - 묶음 최악 소요 시간이 lease 안에 들어가는지 기동 시 검증 (lease 만료 후 재선점되면 같은 메일이 두 번 발송됨)
+ * - 지표: auth.mail.queue.sent, auth.mail.queue.failures, auth.mail.queue.dead, auth.mail.queue.batch.duration,
+ *         auth.mail.queue.executor.*
+ */
+@Slf4j
+@Component
+public class MailQueueWorker {
+    private static final TypeReference<Map<String, String>> VARIABLES_TYPE = new TypeReference<>() {};
+
+    private final MailQueueService mailQueueService;
+    private final EmailRenderer emailRenderer;
+    private final EmailProperties emailProperties;
+    private final JavaMailSender mailSender;
+    private final MailProperties mailProperties;
+    private final MailQueueProperties props;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+
+    public MailQueueWorker(MailQueueService mailQueueService,
+                           EmailRenderer emailRenderer,
+                           EmailProperties emailProperties,
+                           JavaMailSender mailSender,
+                           MailProperties mailProperties,
+                           MailQueueProperties props,
+                           MeterRegistry meterRegistry) {
+        this.mailQueueService = mailQueueService;
+        this.emailRenderer = emailRenderer;
+        this.emailProperties = emailProperties;
+        this.mailSender = mailSender;
+        this.mailProperties = mailProperties;
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        this.executor = Executors.newFixedThreadPool(props.getWorkers(), new MailThreadFactory());
+
+        // 대기열 크기, 활성 스레드 수, 완료 작업 수
+        new ExecutorServiceMetrics(executor, "auth.mail.queue.executor", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    // 묶음 1개의 최악 소요 시간 = SMTP 연결 대기 + batch-size * (쓰기 대기 + 응답 대기)
+    @PostConstruct
+    void validate() {
+        Map<String, String> smtp = mailProperties.getProperties();
+        long connectMillis = timeoutMillis(smtp, "mail.smtp.connectiontimeout");
+        long readMillis = timeoutMillis(smtp, "mail.smtp.timeout");
+        long writeMillis = timeoutMillis(smtp, "mail.smtp.writetimeout");
+        if (connectMillis <= 0 || readMillis <= 0 || writeMillis <= 0) {
+            // 0 또는 미설정 = 무제한 대기 → lease로 중복 발송을 막을 수 없음
+            throw new IllegalStateException("spring.mail.properties.mail.smtp.{connectiontimeout,timeout,writetimeout} must be set for the mail queue lease to hold");
+        }
+
+        Duration worstCase = Duration.ofMillis(connectMillis + props.getBatchSize() * (readMillis + writeMillis));
+        if (worstCase.compareTo(props.getLease()) >= 0) {
+            throw new IllegalStateException("auth.mail-queue: worst-case chunk duration (" + worstCase
+                    + ") must be shorter than lease (" + props.getLease() + ")");
+        }
+    }
+
+    private static long timeoutMillis(Map<String, String> smtp, String key) {
+        String value = smtp.get(key);
+        try {
+            return value == null ? 0L : Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalStateException("Invalid " + key + ": " + value, ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.mail-queue.interval:PT2S}")
+    public void drain() {
+        if (!props.isEnabled()) {
+            return;
+        }
+
+        // 1) 발송 가능한 메일 선점
+        List<MailQueueEntry> claimed;
+        try {
+            claimed = mailQueueService.claim(props.getWorkers() * props.getBatchSize(), props.getLease());
+        } catch (DataAccessException ex) {
+            log.warn("Mail queue claim failed", ex);
+            return;
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        // 2) batch-size씩 나눠 워커 풀에서 발송 (묶음마다 SMTP 연결 1개)
+        meterRegistry.timer("auth.mail.queue.batch.duration").record(() -> {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int from = 0; from < claimed.size(); from += props.getBatchSize()) {
+                List<MailQueueEntry> chunk = claimed.subList(from, Math.min(from + props.getBatchSize(), claimed.size()));
+                futures.add(executor.submit(() -> sendChunk(chunk)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException ex) {
+                    // 결과 기록 전 실패한 묶음은 임대 만료 후 다시 발송 대상
+                    log.error("{}: mail queue worker failed", ErrorCode.EMAIL_SEND_FAILURE.getMessage(), ex.getCause());
+                }
+            }
+        });
+    }
+
+    private void sendChunk(List<MailQueueEntry> chunk) {
+        // 1) 메일별 MimeMessage 생성 (생성 실패는 해당 메일만 실패 처리)
+        Map<MimeMessage, MailQueueEntry> messages = new IdentityHashMap<>();
+        for (MailQueueEntry entry : chunk) {
+            try {
+                messages.put(toMimeMessage(entry), entry);
+            } catch (RuntimeException | MessagingException ex) {
+                recordFailure(entry, ex);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        // 2) SMTP 연결 하나로 연속 발송
+        Map<Object, Exception> failed = Map.of();
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException ex) {
+            failed = ex.getFailedMessages();
+            if (failed.isEmpty()) {
+                failed = allFailed(messages, ex);
+            }
+        } catch (MailException ex) {
+            // 인증 실패 등 연결 단계 오류 -> 묶음 전체 실패
+            failed = allFailed(messages, ex);
+        }
+
+        // 3) 결과 기록 (성공은 일괄 삭제)
+        List<Long> sentIds = new ArrayList<>();
+        for (Map.Entry<MimeMessage, MailQueueEntry> message : messages.entrySet()) {
+            Exception error = failed.get(message.getKey());
+            if (error == null) {
+                sentIds.add(message.getValue().getId());
+            } else {
+                recordFailure(message.getValue(), error);
+            }
+        }
+
+        try {
+            mailQueueService.complete(sentIds);
+            meterRegistry.counter("auth.mail.queue.sent").increment(sentIds.size());
+        } catch (DataAccessException ex) {
+            // 삭제 실패 시 임대 만료 후 중복 발송될 수 있음
+            log.error("{}: identifierType=mailIds, identifierValue={}", ErrorCode.DB_DELETE_FAILURE.getMessage(), sentIds, ex);
+        }
+    }
+
+    private MimeMessage toMimeMessage(MailQueueEntry entry) throws MessagingException {
+        EmailRenderer.RenderedMail rendered = emailRenderer.render(entry.getMailType(), JsonUtil.fromJson(entry.getVariables(), VARIABLES_TYPE));
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(
+                message,
+                MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED,
+                StandardCharsets.UTF_8.name()
+        );
+        helper.setFrom(emailProperties.getFrom());
+        helper.setTo(entry.getRecipient());
+        helper.setSubject(rendered.subject());
+        helper.setText(rendered.html(), true);
+        return message;
+    }
+
+    private static Map<Object, Exception> allFailed(Map<MimeMessage, MailQueueEntry> messages, Exception ex) {
+        Map<Object, Exception> failed = new IdentityHashMap<>();
+        messages.keySet().forEach(message -> failed.put(message, ex));
+        return failed;
+    }
+
+    private void recordFailure(MailQueueEntry entry, Exception error) {
+        boolean exhausted = entry.getAttempts() >= props.getMaxAttempts();
+        OffsetDateTime nextAttemptAt = exhausted ? null : OffsetDateTime.now().plus(backoff(entry.getAttempts()));
+
+        meterRegistry.counter(exhausted ? "auth.mail.queue.dead" : "auth.mail.queue.failures", "type", entry.getMailType().name()).increment();
+        log.error("{}: identifierType=loginId, identifierValue={}, type={}, attempts={}, exhausted={}",
+                ErrorCode.EMAIL_SEND_FAILURE.getMessage(), MaskingUtil.maskEmailLoginId(entry.getRecipient()),
+                entry.getMailType(), entry.getAttempts(), exhausted, error);
+
+        try {
+            mailQueueService.fail(entry.getId(), nextAttemptAt, error.toString());
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=mailId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), entry.getId(), ex);
+        }
+    }
+
+    // 시도 횟수별 재시도 간격 (initialBackoff * 2^(attempts-1), 최대 maxBackoff)
+    private Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = props.getInitialBackoff().multipliedBy(1L << shift);
+        return delay.compareTo(props.getMaxBackoff()) > 0 ? props.getMaxBackoff() : delay;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class MailThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "mail-sender-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
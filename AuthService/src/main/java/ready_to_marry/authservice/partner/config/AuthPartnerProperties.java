@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * application.properties의 auth.partner.* 설정을 바인딩
  */
@@ -15,4 +17,54 @@ import org.springframework.context.annotation.Configuration;
 public class AuthPartnerProperties {
     // Partner 이메일 인증(verify) 경로
     private String verifyPath;
+
+    // 이메일 미인증(WAITING_EMAIL_VERIFICATION) 계정 만료 시간 (경과 시 재가입 허용 + 정리 대상)
+    private Duration unverifiedExpiry = Duration.ofMinutes(10);
+
+    // 만료된 이메일 미인증 계정 정리 배치
+    private UnverifiedSweep unverifiedSweep = new UnverifiedSweep();
+
+    // 관리자 승인 거부 단계별 제한 시간
+    private Rejection rejection = new Rejection();
+
+    // 승인 대기 목록 조회 제한 시간
+    private PendingList pendingList = new PendingList();
+
+    @Getter
+    @Setter
+    public static class UnverifiedSweep {
+        // 정리 배치 사용 여부
+        private boolean enabled = true;
+
+        // 실행 간격 / 기동 후 첫 실행 지연 (@Scheduled에서 ISO-8601 형식으로 참조, 예: PT5M)
+        private Duration interval = Duration.ofMinutes(5);
+        private Duration initialDelay = Duration.ofMinutes(1);
+
+        // 한 번에 삭제할 최대 계정 수 (짧은 트랜잭션 단위)
+        private int batchSize = 500;
+
+        // 1회 실행당 최대 배치 수 (남은 계정은 다음 실행에서 처리)
+        private int maxBatchesPerRun = 20;
+
+        // 레플리카 간 단일 실행 락 키 / 최대 보유 시간
+        private String lockKey = "lock:partner:unverified-sweep";
+        private Duration lockTtl = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Rejection {
+        // 트랜잭션 전 파트너 프로필(스냅샷) 조회 최대 대기 시간
+        private Duration profileFetchTimeout = Duration.ofSeconds(3);
+
+        // 이력 기록·계정 삭제·요청 적재 트랜잭션 제한 시간 (초 단위로 적용)
+        private Duration transactionTimeout = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    public static class PendingList {
+        // 페이지 내 파트너 프로필 일괄 조회 최대 대기 시간
+        private Duration profileFetchTimeout = Duration.ofSeconds(3);
+    }
 }
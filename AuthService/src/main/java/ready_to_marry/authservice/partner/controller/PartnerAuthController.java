@@ -1,11 +1,15 @@
 package ready_to_marry.authservice.partner.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ready_to_marry.authservice.common.config.RateLimitProperties;
 import ready_to_marry.authservice.common.dto.response.ApiResponse;
 import ready_to_marry.authservice.common.dto.response.JwtResponse;
+import ready_to_marry.authservice.common.ratelimit.LoginRateLimiter;
+import ready_to_marry.authservice.common.util.ClientIpUtil;
 import ready_to_marry.authservice.partner.dto.request.PartnerLoginRequest;
 import ready_to_marry.authservice.partner.dto.request.PartnerSignupRequest;
 import ready_to_marry.authservice.partner.service.PartnerAuthService;
@@ -18,6 +22,8 @@ import ready_to_marry.authservice.partner.service.PartnerAuthService;
 @RequiredArgsConstructor
 public class PartnerAuthController {
     private final PartnerAuthService partnerAuthService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final RateLimitProperties rateLimitProperties;
 
     /**
      * 파트너 회원가입: 가입 폼 제출 → 이메일 인증 메일 전송
@@ -43,10 +49,14 @@ public class PartnerAuthController {
      * 파트너 로그인
      *
      * @param request 로그인 요청 정보 (login, password)
+     * @param httpRequest 클라이언트 IP 추출용 요청 (X-Forwarded-For)
      * @return 성공 시 code=0, data=발급된 JWT 토큰 정보
      */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<JwtResponse>> loginPartner(@Valid @RequestBody PartnerLoginRequest request) {
+    public ResponseEntity<ApiResponse<JwtResponse>> loginPartner(@Valid @RequestBody PartnerLoginRequest request, HttpServletRequest httpRequest) {
+        // 로그인 시도 제한 (계정 조회·비밀번호 검증 전에 차단)
+        loginRateLimiter.check("partner", request.getLoginId(), ClientIpUtil.resolve(httpRequest, rateLimitProperties.getTrustedProxies()));
+
         // 로그인 -> 토큰 생성 및 Redis에 저장
         JwtResponse tokens = partnerAuthService.login(request);
 
@@ -8,6 +8,8 @@ import lombok.*;
 @Setter
 @Builder
 public class PartnerResponseDto {
+    private Long partnerId;
+
     private String name;
 
     private String companyName;
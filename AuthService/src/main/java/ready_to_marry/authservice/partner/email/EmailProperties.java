@@ -27,6 +27,9 @@ public class EmailProperties {
     // 파트너 계정 거부 안내 메일 제목
     private String partnerRejectedSubject;
 
+    // 기동 시 템플릿 사전 처리 후 값만 치환하여 렌더링 (false면 메일마다 Thymeleaf 처리)
+    private boolean prerender = true;
+
     // 템플릿 파일명 (classpath:/templates/)
     private Templates templates = new Templates();
 
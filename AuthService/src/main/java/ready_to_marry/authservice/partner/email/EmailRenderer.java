@@ -0,0 +1,91 @@
+package ready_to_marry.authservice.partner.email;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import ready_to_marry.authservice.common.enums.MailType;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메일 종류 + 템플릿 변수로 제목·HTML 본문 생성
+ *
+ * - app.mail.prerender=true: 기동 시 템플릿을 PrerenderedTemplate으로 1회 처리해 두고 발송 시에는 값만 치환 (메일마다 HTML 파싱 없음)
+ * - 사전 처리 결과가 Thymeleaf 결과와 다른 템플릿은 Thymeleaf 경로로 렌더링
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailRenderer {
+    // 메일 종류별 템플릿 변수 이름
+    private static final Map<MailType, List<String>> VARIABLES = Map.of(
+            MailType.PARTNER_VERIFICATION, List.of("link"),
+            MailType.PARTNER_APPROVED, List.of(),
+            MailType.PARTNER_REJECTED, List.of("reason")
+    );
+
+    private final SpringTemplateEngine templateEngine;
+    private final EmailProperties emailProperties;
+    private final Map<MailType, PrerenderedTemplate> prerendered = new EnumMap<>(MailType.class);
+
+    @PostConstruct
+    public void init() {
+        if (!emailProperties.isPrerender()) {
+            return;
+        }
+
+        for (MailType mailType : MailType.values()) {
+            PrerenderedTemplate template = PrerenderedTemplate.compile(templateEngine, templateOf(mailType), VARIABLES.get(mailType));
+            if (template == null) {
+                log.warn("Email template cannot be prerendered, using Thymeleaf: type={}, template={}", mailType, templateOf(mailType));
+                continue;
+            }
+            prerendered.put(mailType, template);
+        }
+    }
+
+    /**
+     * 메일 제목·본문 생성
+     *
+     * @param mailType  메일 종류
+     * @param variables 템플릿 변수
+     * @return 제목 + HTML 본문
+     */
+    public RenderedMail render(MailType mailType, Map<String, String> variables) {
+        // 1) 사전 처리된 템플릿이면 값만 치환
+        PrerenderedTemplate template = prerendered.get(mailType);
+        if (template != null) {
+            return new RenderedMail(subjectOf(mailType), template.render(variables));
+        }
+
+        // 2) Thymeleaf 컨텍스트에 변수 설정 후 템플릿 파일 처리
+        Context ctx = new Context();
+        variables.forEach(ctx::setVariable);
+        return new RenderedMail(subjectOf(mailType), templateEngine.process(templateOf(mailType), ctx));
+    }
+
+    private String templateOf(MailType mailType) {
+        EmailProperties.Templates templates = emailProperties.getTemplates();
+        return switch (mailType) {
+            case PARTNER_VERIFICATION -> templates.getPartnerVerification();
+            case PARTNER_APPROVED -> templates.getPartnerApproved();
+            case PARTNER_REJECTED -> templates.getPartnerRejected();
+        };
+    }
+
+    private String subjectOf(MailType mailType) {
+        return switch (mailType) {
+            case PARTNER_VERIFICATION -> emailProperties.getPartnerVerificationSubject();
+            case PARTNER_APPROVED -> emailProperties.getPartnerApprovedSubject();
+            case PARTNER_REJECTED -> emailProperties.getPartnerRejectedSubject();
+        };
+    }
+
+    public record RenderedMail(String subject, String html) {
+    }
+}
@@ -0,0 +1,123 @@
+package ready_to_marry.authservice.partner.email;
+
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 시 한 번 처리해 둔 메일 템플릿 (정적 HTML 조각 + 변수 자리)
+ *
+ * - 변수마다 고유 표식을 넣어 Thymeleaf로 1회 렌더링한 뒤 표식 위치로 분할
+ * - 발송 시에는 파싱 없이 조각 사이에 HTML 이스케이프한 값만 이어 붙임
+ * - th:text / th:href="${...}"처럼 값을 그대로 출력하는 변수에만 사용 (조건·반복에 쓰이는 변수는 compile 검증에서 걸러짐)
+ */
+public final class PrerenderedTemplate {
+    private static final String MARKER_PREFIX = "__PRERENDER_";
+    private static final String MARKER_SUFFIX = "__";
+
+    // 검증용 값 (이스케이프 대상 문자 포함)
+    private static final String PROBE_VALUE = "probe&<value>\"";
+
+    // 정적 조각 (segments.size() == variableNames.size() + 1)
+    private final List<String> segments;
+
+    // 조각 사이에 들어갈 변수 이름
+    private final List<String> variableNames;
+
+    // 정적 조각 총 길이 (StringBuilder 초기 용량)
+    private final int staticLength;
+
+    private PrerenderedTemplate(List<String> segments, List<String> variableNames) {
+        this.segments = segments;
+        this.variableNames = variableNames;
+        this.staticLength = segments.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * 템플릿을 표식 값으로 1회 렌더링하여 조각으로 분할
+     * 1) 변수마다 고유 표식을 넣어 렌더링
+     * 2) 표식 위치로 정적 조각 / 변수 자리 분할
+     * 3) 검증 값으로 Thymeleaf 결과와 빠른 경로 결과가 같은지 확인
+     *
+     * @param templateEngine Thymeleaf 엔진
+     * @param template       템플릿 파일명
+     * @param variables      템플릿 변수 이름 목록
+     * @return 분할된 템플릿 (Thymeleaf와 결과가 다르면 null)
+     */
+    public static PrerenderedTemplate compile(SpringTemplateEngine templateEngine, String template, Collection<String> variables) {
+        // 1) 변수마다 고유 표식을 넣어 렌더링
+        Context markerCtx = new Context();
+        variables.forEach(name -> markerCtx.setVariable(name, MARKER_PREFIX + name + MARKER_SUFFIX));
+        String html = templateEngine.process(template, markerCtx);
+
+        // 2) 표식 위치로 분할
+        List<String> segments = new ArrayList<>();
+        List<String> variableNames = new ArrayList<>();
+        int cursor = 0;
+        while (true) {
+            int start = html.indexOf(MARKER_PREFIX, cursor);
+            if (start < 0) {
+                break;
+            }
+            int nameStart = start + MARKER_PREFIX.length();
+            int end = html.indexOf(MARKER_SUFFIX, nameStart);
+            if (end < 0) {
+                break;
+            }
+            segments.add(html.substring(cursor, start));
+            variableNames.add(html.substring(nameStart, end));
+            cursor = end + MARKER_SUFFIX.length();
+        }
+        segments.add(html.substring(cursor));
+        PrerenderedTemplate prerendered = new PrerenderedTemplate(List.copyOf(segments), List.copyOf(variableNames));
+
+        // 3) 검증 값으로 Thymeleaf 결과와 비교
+        Context probeCtx = new Context();
+        variables.forEach(name -> probeCtx.setVariable(name, PROBE_VALUE));
+        Map<String, String> probeVariables = new HashMap<>();
+        variables.forEach(name -> probeVariables.put(name, PROBE_VALUE));
+        if (!templateEngine.process(template, probeCtx).equals(prerendered.render(probeVariables))) {
+            return null;
+        }
+        return prerendered;
+    }
+
+    /**
+     * 조각 사이에 HTML 이스케이프한 변수 값을 이어 붙여 본문 생성
+     *
+     * @param variables 템플릿 변수 (없는 변수는 빈 문자열)
+     * @return HTML 본문
+     */
+    public String render(Map<String, String> variables) {
+        StringBuilder sb = new StringBuilder(staticLength + 64 * variableNames.size());
+        for (int i = 0; i < variableNames.size(); i++) {
+            sb.append(segments.get(i));
+            appendEscaped(sb, variables.get(variableNames.get(i)));
+        }
+        sb.append(segments.get(segments.size() - 1));
+        return sb.toString();
+    }
+
+    // Thymeleaf HTML 모드 출력과 같은 마크업 문자 이스케이프 (' 는 텍스트·속성 모두에서 안전한 숫자 참조)
+    private static void appendEscaped(StringBuilder sb, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> sb.append("&amp;");
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package ready_to_marry.authservice.partner.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ready_to_marry.authservice.account.repository.PurgedAccount;
+import ready_to_marry.authservice.account.service.AccountService;
+import ready_to_marry.authservice.common.enums.ProvisioningType;
+import ready_to_marry.authservice.common.exception.ErrorCode;
+import ready_to_marry.authservice.common.redis.RedisLockOperations;
+import ready_to_marry.authservice.partner.config.AuthPartnerProperties;
+import ready_to_marry.authservice.provisioning.service.ProvisioningOutboxService;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료된 이메일 미인증(WAITING_EMAIL_VERIFICATION) 파트너 계정 정리 배치
+ *
+ * - 가입 후 auth.partner.unverified-expiry 안에 인증하지 않은 계정을 batch-size 단위 DELETE ... RETURNING으로 일괄 삭제
+ * - 삭제된 계정의 partner_profile 삭제 요청은 같은 트랜잭션에서 provisioning_outbox(PARTNER_PROFILE_DELETE)에 적재
+ *   (커밋 후 ProvisioningRelay가 concurrency 제한·재시도 포함 전달, 실패해도 프로필이 고아로 남지 않음)
+ * - Redis 락으로 레플리카 중 한 노드만 실행
+ * - 지표: auth.partner.unverified_sweep.deleted, auth.partner.unverified_sweep.profile_delete.enqueued,
+ *         auth.partner.unverified_sweep.duration, auth.partner.unverified_sweep.last_run.deleted, auth.partner.unverified_sweep.skipped
+ */
+@Slf4j
+@Component
+public class UnverifiedPartnerSweeper {
+    private final AccountService accountService;
+    private final ProvisioningOutboxService provisioningOutboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLockOperations lockOperations;
+    private final AuthPartnerProperties authPartnerProperties;
+    private final Counter deletedCounter;
+    private final Counter profileDeleteEnqueuedCounter;
+    private final Counter skippedCounter;
+    private final Timer runTimer;
+    private final AtomicLong lastRunDeleted = new AtomicLong();
+
+    public UnverifiedPartnerSweeper(AccountService accountService,
+                                    ProvisioningOutboxService provisioningOutboxService,
+                                    TransactionTemplate transactionTemplate,
+                                    RedisLockOperations lockOperations,
+                                    AuthPartnerProperties authPartnerProperties,
+                                    MeterRegistry meterRegistry) {
+        this.accountService = accountService;
+        this.provisioningOutboxService = provisioningOutboxService;
+        this.transactionTemplate = transactionTemplate;
+        this.lockOperations = lockOperations;
+        this.authPartnerProperties = authPartnerProperties;
+        this.deletedCounter = meterRegistry.counter("auth.partner.unverified_sweep.deleted");
+        this.profileDeleteEnqueuedCounter = meterRegistry.counter("auth.partner.unverified_sweep.profile_delete.enqueued");
+        this.skippedCounter = meterRegistry.counter("auth.partner.unverified_sweep.skipped");
+        this.runTimer = meterRegistry.timer("auth.partner.unverified_sweep.duration");
+        meterRegistry.gauge("auth.partner.unverified_sweep.last_run.deleted", lastRunDeleted);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.partner.unverified-sweep.interval:PT5M}",
+            initialDelayString = "${auth.partner.unverified-sweep.initial-delay:PT1M}")
+    public void sweep() {
+        AuthPartnerProperties.UnverifiedSweep props = authPartnerProperties.getUnverifiedSweep();
+        if (!props.isEnabled()) {
+            return;
+        }
+
+        // 1) 레플리카 간 단일 실행 락 획득 (실패 시 다른 노드가 실행 중)
+        Optional<String> lockToken;
+        try {
+            lockToken = lockOperations.tryLock(props.getLockKey(), props.getLockTtl());
+        } catch (DataAccessException ex) {
+            log.warn("Unverified partner sweep skipped, lock store unavailable", ex);
+            skippedCounter.increment();
+            return;
+        }
+        if (lockToken.isEmpty()) {
+            skippedCounter.increment();
+            return;
+        }
+
+        try {
+            runTimer.record(() -> sweepBatches(props));
+        } finally {
+            // 2) 락 해제 (실패해도 TTL 경과 후 자동 해제)
+            try {
+                lockOperations.unlock(props.getLockKey(), lockToken.get());
+            } catch (DataAccessException ex) {
+                log.warn("Failed to release unverified partner sweep lock: key={}", props.getLockKey(), ex);
+            }
+        }
+    }
+
+    private void sweepBatches(AuthPartnerProperties.UnverifiedSweep props) {
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(authPartnerProperties.getUnverifiedExpiry());
+        long totalDeleted = 0;
+
+        for (int batch = 0; batch < props.getMaxBatchesPerRun(); batch++) {
+            // 1) 만료 계정 batch-size건 일괄 삭제 + partner_profile 삭제 요청 적재 (배치마다 짧은 트랜잭션)
+            List<PurgedAccount> purged;
+            try {
+                purged = transactionTemplate.execute(status -> purgeBatch(cutoff, props.getBatchSize()));
+            } catch (DataAccessException ex) {
+                log.error("{}: identifierType=cutoff, identifierValue={}", ErrorCode.DB_DELETE_FAILURE.getMessage(), cutoff, ex);
+                break;
+            }
+            if (purged == null || purged.isEmpty()) {
+                break;
+            }
+            totalDeleted += purged.size();
+            deletedCounter.increment(purged.size());
+
+            if (purged.size() < props.getBatchSize()) {
+                break;
+            }
+        }
+
+        lastRunDeleted.set(totalDeleted);
+        if (totalDeleted > 0) {
+            log.info("Expired unverified partner accounts purged: count={}, cutoff={}", totalDeleted, cutoff);
+        }
+    }
+
+    private List<PurgedAccount> purgeBatch(OffsetDateTime cutoff, int batchSize) {
+        List<PurgedAccount> purged = accountService.deleteExpiredUnverified(cutoff, batchSize);
+
+        // 2) 삭제된 계정의 partner_profile(partnerDB) 삭제 요청 적재 (계정 삭제와 함께 커밋, ProvisioningRelay가 전달)
+        //    partnerId가 없는 계정은 프로필 생성 전 → 이후 생성되면 릴레이가 고아 프로필로 정리
+        for (PurgedAccount account : purged) {
+            if (account.getPartnerId() != null) {
+                provisioningOutboxService.enqueue(account.getAccountId(), ProvisioningType.PARTNER_PROFILE_DELETE, account.getPartnerId());
+                profileDeleteEnqueuedCounter.increment();
+            }
+        }
+        return purged;
+    }
+}
@@ -30,20 +30,20 @@ public interface PartnerAuthService {
      * @throws InfrastructureException  DB_DELETE_FAILURE
      * @throws InfrastructureException  VERIFICATION_TOKEN_SAVE_FAILURE
      * @throws InfrastructureException  EMAIL_SEND_FAILURE
+     * @throws InfrastructureException  PASSWORD_HASHING_BUSY
      */
     void registerPartner(PartnerSignupRequest request);
 
     /**
      * 이메일 인증 처리
-     * 1) 이메일 verification token 으로 accountId 조회
-     * 2) auth_account에 status 업데이트 (WAITING_EMAIL_VERIFICATION -> PENDING_ADMIN_APPROVAL)
-     * 3) 이메일 verification token 삭제
+     * 1) 이메일 verification token 소비 (조회 + 삭제 1회 왕복)
+     * 2) 트랜잭션 롤백 시 소비한 토큰 복구 등록
+     * 3) auth_account에 status 업데이트 (WAITING_EMAIL_VERIFICATION -> PENDING_ADMIN_APPROVAL)
      *
      * @param token 이메일 인증 토큰
      * @throws BusinessException        INVALID_VERIFICATION_TOKEN
      * @throws InfrastructureException  DB_SAVE_FAILURE
      * @throws InfrastructureException  VERIFICATION_TOKEN_RETRIEVE_FAILURE
-     * @throws InfrastructureException  VERIFICATION_TOKEN_DELETE_FAILURE
      */
     void verifyEmail(String token);
 
@@ -63,6 +63,7 @@ public interface PartnerAuthService {
      * @throws BusinessException        PENDING_ADMIN_APPROVAL
      * @throws InfrastructureException  DB_RETRIEVE_FAILURE
      * @throws InfrastructureException  REFRESH_TOKEN_SAVE_FAILURE
+     * @throws InfrastructureException  PASSWORD_HASHING_BUSY
      */
     JwtResponse login(PartnerLoginRequest request);
 }
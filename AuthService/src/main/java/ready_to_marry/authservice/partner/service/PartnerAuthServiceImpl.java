@@ -3,15 +3,17 @@ package ready_to_marry.authservice.partner.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
-import org.springframework.mail.MailException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ready_to_marry.authservice.account.entity.AuthAccount;
+import ready_to_marry.authservice.account.repository.LoginAccount;
 import ready_to_marry.authservice.account.service.AccountService;
 import ready_to_marry.authservice.common.dto.response.JwtResponse;
 import ready_to_marry.authservice.common.enums.AccountStatus;
 import ready_to_marry.authservice.common.enums.AuthMethod;
+import ready_to_marry.authservice.common.enums.ProvisioningType;
 import ready_to_marry.authservice.common.enums.Role;
 import ready_to_marry.authservice.common.exception.BusinessException;
 import ready_to_marry.authservice.common.exception.ErrorCode;
@@ -19,12 +21,14 @@ import ready_to_marry.authservice.common.exception.InfrastructureException;
 import ready_to_marry.authservice.common.jwt.JwtClaims;
 import ready_to_marry.authservice.common.jwt.JwtProperties;
 import ready_to_marry.authservice.common.jwt.JwtTokenProvider;
+import ready_to_marry.authservice.common.security.PasswordHashingService;
 import ready_to_marry.authservice.common.util.MaskingUtil;
 import ready_to_marry.authservice.partner.config.AuthPartnerProperties;
 import ready_to_marry.authservice.partner.dto.request.PartnerLoginRequest;
 import ready_to_marry.authservice.partner.dto.request.PartnerProfileRequest;
 import ready_to_marry.authservice.partner.dto.request.PartnerSignupRequest;
 import ready_to_marry.authservice.partner.email.EmailService;
+import ready_to_marry.authservice.provisioning.service.ProvisioningOutboxService;
 import ready_to_marry.authservice.token.service.RefreshTokenService;
 import ready_to_marry.authservice.token.service.VerificationTokenService;
 
@@ -38,12 +42,13 @@ public class PartnerAuthServiceImpl implements PartnerAuthService {
     private final AccountService accountService;
     private final VerificationTokenService verificationTokenService;
     private final EmailService emailService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final AuthPartnerProperties authPartnerProperties;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
     private final JwtProperties jwtProperties;
     private final PartnerClient partnerClient;
+    private final ProvisioningOutboxService provisioningOutboxService;
 
     @Override
     @Transactional
@@ -54,7 +59,7 @@ public class PartnerAuthServiceImpl implements PartnerAuthService {
         // 1) 같은 loginId의 만료된 대기 계정 정리
         try {
             accountService.findByLoginId(request.getLoginId())
-                    .filter(a -> a.getStatus() == AccountStatus.WAITING_EMAIL_VERIFICATION && a.getCreatedAt().isBefore(OffsetDateTime.now().minusMinutes(10)))
+                    .filter(a -> a.getStatus() == AccountStatus.WAITING_EMAIL_VERIFICATION && a.getCreatedAt().isBefore(OffsetDateTime.now().minus(authPartnerProperties.getUnverifiedExpiry())))
                     .ifPresent(a -> {
                         // 0-1) auth_account 에서 해당 계정 삭제
                         try {
@@ -68,6 +73,10 @@ public class PartnerAuthServiceImpl implements PartnerAuthService {
                         // 0-2) PARTNER SERVICE에 요청 (INTERNAL API) -> 해당 계정의 partner_profile(partnerDB) 삭제
                         // TODO: INTERNAL API 호출 로직 추가 O
                         // TODO: INTERNAL API 호출 에러 시 처리 로직 추가 O
+                        // (프로필 생성 전이면 partnerId 없음, 이후 생성된 프로필은 ProvisioningRelay가 정리)
+                        if (a.getPartnerId() == null) {
+                            return;
+                        }
                         try {
                             partnerClient.deletePartnerProfile(a.getPartnerId());
                         } catch (Exception e) {
@@ -94,7 +103,7 @@ public class PartnerAuthServiceImpl implements PartnerAuthService {
         }
 
         // 3) password 암호화
-        String encoded = passwordEncoder.encode(request.getPassword());
+        String encoded = passwordHashingService.encode(request.getPassword());
 
         // 4)-1 AuthAccount 엔티티 생성
         AuthAccount account = AuthAccount.builder()
@@ -126,28 +135,16 @@ public class PartnerAuthServiceImpl implements PartnerAuthService {
                 .businessNum(request.getBusinessNum())
                 .build();
 
-        System.out.println("추가 요청 시작");
-        // 5)-2 PARTNER SERVICE에 요청 (INTERNAL API) -> partner_profile(partnerDB)에 저장
-        // TODO: INTERNAL API 호출 로직 추가 O
-        // TODO: INTERNAL API 호출 에러 시 처리 로직 추가 O
-        // FIXME: INTERNAL API 호출 결과에서 가져오는 partnerId로 변경 (임시 코드) O
-        Long partnerId;
-        try {
-            partnerId = partnerClient.savePartnerProfile(internalRequest);
-        } catch (Exception e) {
-            throw new InfrastructureException(ErrorCode.EXTERNAL_API_FAILURE, e);
-        }
-        System.out.println("추가 요청 완료");
-
-        // 6) auth_account에 partnerId 업데이트
+        // 5)-2 프로필 생성 요청을 outbox에 적재 (계정과 같은 트랜잭션으로 커밋)
+        //      -> ProvisioningRelay가 PARTNER SERVICE에 요청 (INTERNAL API) 후 auth_account에 partnerId 업데이트
         try {
-            accountService.updatePartnerId(savedAccount.getAccountId(), partnerId);
+            provisioningOutboxService.enqueue(savedAccount.getAccountId(), ProvisioningType.PARTNER_PROFILE, internalRequest);
         } catch (DataAccessException ex) {
             log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), savedAccount.getAccountId(), ex);
             throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
         }
 
-        // 7) 이메일 verification token 발급 및 Redis 저장
+        // 6) 이메일 verification token 발급 및 Redis 저장
         String token = UUID.randomUUID().toString();
         try {
             verificationTokenService.save(token, savedAccount.getAccountId());
@@ -156,11 +153,11 @@ public class PartnerAuthServiceImpl implements PartnerAuthService {
             throw new InfrastructureException(ErrorCode.VERIFICATION_TOKEN_SAVE_FAILURE, ex);
         }
 
-        // 8) 이메일 인증 메일 전송
+        // 7) 이메일 인증 메일 발송 요청 (mail_queue에 적재, 커밋 후 MailQueueWorker가 발송)
         String link = String.format("%s?token=%s", authPartnerProperties.getVerifyPath(), token);
         try {
             emailService.sendPartnerVerification(savedAccount.getLoginId(), link);
-        } catch (MailException ex) {
+        } catch (DataAccessException ex) {
             log.error("{}: identifierType=loginId, identifierValue={}", ErrorCode.EMAIL_SEND_FAILURE.getMessage(), maskedLoginId, ex);
             throw new InfrastructureException(ErrorCode.EMAIL_SEND_FAILURE, ex);
         }
@@ -172,10 +169,10 @@ public class PartnerAuthServiceImpl implements PartnerAuthService {
         // 0) 마스킹된 token 준비 (로그용)
         String maskedToken = MaskingUtil.maskToken(token);
 
-        // 1) 이메일 verification token 으로 accountId 조회
+        // 1) 이메일 verification token 소비 (조회 + 삭제 1회 왕복, 동시 요청 중 한 건만 성공)
         UUID accountId;
         try {
-            accountId = verificationTokenService.findAccountId(token)
+            accountId = verificationTokenService.take(token)
                     .orElseThrow(() -> {
                         log.error("{}: identifierType=token, identifierValue={}", ErrorCode.INVALID_VERIFICATION_TOKEN.getMessage(), maskedToken);
                         return new BusinessException(ErrorCode.INVALID_VERIFICATION_TOKEN);
@@ -185,33 +182,47 @@ public class PartnerAuthServiceImpl implements PartnerAuthService {
             throw new InfrastructureException(ErrorCode.VERIFICATION_TOKEN_RETRIEVE_FAILURE, ex);
         }
 
-        // 2) auth_account에 status 업데이트 (WAITING_EMAIL_VERIFICATION -> PENDING_ADMIN_APPROVAL)
+        // 2) 트랜잭션 롤백 시 소비한 토큰 복구 (사용자가 같은 링크로 다시 인증할 수 있도록)
+        restoreVerificationTokenOnRollback(token, accountId);
+
+        // 3) auth_account에 status 업데이트 (WAITING_EMAIL_VERIFICATION -> PENDING_ADMIN_APPROVAL)
         try {
             accountService.updateStatus(accountId, AccountStatus.PENDING_ADMIN_APPROVAL);
         } catch (DataAccessException ex) {
             log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), accountId, ex);
             throw new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, ex);
         }
+    }
 
-        // 3) 이메일 verification token 삭제
-        try {
-            verificationTokenService.delete(token);
-        } catch (DataAccessException ex) {
-            log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.VERIFICATION_TOKEN_DELETE_FAILURE.getMessage(), accountId, ex);
-            throw new InfrastructureException(ErrorCode.VERIFICATION_TOKEN_DELETE_FAILURE, ex);
+    private void restoreVerificationTokenOnRollback(String token, UUID accountId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
         }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    verificationTokenService.save(token, accountId);
+                } catch (DataAccessException ex) {
+                    log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.VERIFICATION_TOKEN_SAVE_FAILURE.getMessage(), accountId, ex);
+                }
+            }
+        });
     }
 
     @Override
-    @Transactional(readOnly = true)
     public JwtResponse login(PartnerLoginRequest request) {
         // 0) 마스킹된 loginId 준비 (로그용)
         String maskedLoginId = MaskingUtil.maskEmailLoginId(request.getLoginId());
 
         // 1) 계정 조회 및 승인 상태 확인
-        AuthAccount account;
+        LoginAccount account;
         try {
-            account = accountService.findByLoginId(request.getLoginId())
+            account = accountService.findLoginAccount(request.getLoginId())
                     .filter(a -> a.getRole() == Role.PARTNER)
                     .orElseThrow(() -> {
                         log.error("{}: identifierType=loginId, identifierValue={}", ErrorCode.INVALID_CREDENTIALS.getMessage(), maskedLoginId);
@@ -244,11 +255,14 @@ public class PartnerAuthServiceImpl implements PartnerAuthService {
         }
 
         // 2) 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), account.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), account.getPassword())) {
             log.error("{}: identifierType=loginId, identifierValue={}", ErrorCode.INVALID_CREDENTIALS.getMessage(), maskedLoginId);
             throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
 
+        // 기존 해시가 현재 알고리즘·비용보다 약하면 재해시 후 저장
+        passwordHashingService.upgradeIfNeeded(account.getAccountId(), account.getPassword(), request.getPassword());
+
         // 3) Access Token 생성
         String accessToken = jwtTokenProvider.generateAccessToken(
                 account.getAccountId().toString(),
@@ -260,13 +274,15 @@ public class PartnerAuthServiceImpl implements PartnerAuthService {
         );
 
         // 4) Refresh Token 생성
+        String sessionId = UUID.randomUUID().toString();
         String refreshToken = jwtTokenProvider.generateRefreshToken(
-                account.getAccountId().toString()
+                account.getAccountId().toString(),
+                sessionId
         );
 
         // 5) Refresh Token Redis에 저장
         try {
-            refreshTokenService.save(account.getAccountId(), refreshToken);
+            refreshTokenService.save(account.getAccountId(), sessionId, refreshToken);
         }  catch (DataAccessException ex) {
             log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.REFRESH_TOKEN_SAVE_FAILURE.getMessage(), account.getAccountId(), ex);
             throw new InfrastructureException(ErrorCode.REFRESH_TOKEN_SAVE_FAILURE, ex);
@@ -1,11 +1,15 @@
 package ready_to_marry.authservice.partner.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import ready_to_marry.authservice.common.config.WebClientConfig;
 import ready_to_marry.authservice.common.dto.response.ApiResponse;
 import ready_to_marry.authservice.common.exception.BusinessException;
 import ready_to_marry.authservice.common.exception.ErrorCode;
@@ -13,8 +17,13 @@ import ready_to_marry.authservice.common.exception.InfrastructureException;
 import ready_to_marry.authservice.partner.dto.request.PartnerProfileRequest;
 import ready_to_marry.authservice.partner.dto.request.PartnerResponseDto;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class PartnerClient {
@@ -23,7 +32,95 @@ public class PartnerClient {
 
     private static final String BASE_URL = "http://partner-service";
 
+    // 배치 엔드포인트 미지원 시 단건 조회 동시 요청 수
+    private static final int FALLBACK_CONCURRENCY = 8;
+
+    // 배치 엔드포인트 미지원 응답 후 다시 시도하기까지의 간격
+    private static final Duration BATCH_RETRY_INTERVAL = Duration.ofMinutes(10);
+
+    // 이 시각(ms) 전까지는 배치 요청 생략
+    private volatile long batchUnsupportedUntil = 0L;
+
     public PartnerResponseDto getPartnerProfile(Long partnerId) {
+        return getPartnerProfileMono(partnerId).block();
+    }
+
+    /**
+     * 파트너 프로필 조회 (응답 대기 시간 제한)
+     *
+     * @param partnerId 조회할 partnerId
+     * @param timeout   최대 대기 시간 (초과 시 요청 취소 후 TimeoutException)
+     * @return 조회된 프로필
+     */
+    public PartnerResponseDto getPartnerProfile(Long partnerId, Duration timeout) {
+        return getPartnerProfileMono(partnerId).timeout(timeout).block();
+    }
+
+    /**
+     * 여러 파트너 프로필을 한 번에 조회 (partnerId → 프로필, 응답 대기 시간 제한)
+     * 1) 배치 엔드포인트로 1회 요청
+     * 2) 배치 엔드포인트가 없으면(404/405/501) 단건 조회를 최대 FALLBACK_CONCURRENCY개씩 동시 요청
+     *    (미지원 응답 후 BATCH_RETRY_INTERVAL 동안은 배치 요청 생략)
+     *
+     * @param partnerIds 조회할 partnerId 목록
+     * @param timeout    전체 최대 대기 시간 (초과 시 요청 취소 후 TimeoutException)
+     * @return partnerId → PartnerResponseDto (조회되지 않은 ID는 포함되지 않음)
+     */
+    public Map<Long, PartnerResponseDto> getPartnerProfiles(List<Long> partnerIds, Duration timeout) {
+        if (partnerIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> distinctIds = partnerIds.stream().distinct().toList();
+
+        Mono<Map<Long, PartnerResponseDto>> profiles;
+        if (System.currentTimeMillis() < batchUnsupportedUntil) {
+            profiles = fetchProfilesIndividually(distinctIds);
+        } else {
+            profiles = fetchProfilesInBatch(distinctIds)
+                    .onErrorResume(PartnerClient::isBatchUnsupported, ex -> {
+                        batchUnsupportedUntil = System.currentTimeMillis() + BATCH_RETRY_INTERVAL.toMillis();
+                        log.warn("Partner batch profile endpoint unavailable, falling back to individual requests: status={}",
+                                ((WebClientResponseException) ex).getStatusCode());
+                        return fetchProfilesIndividually(distinctIds);
+                    });
+        }
+
+        return profiles.timeout(timeout).block();
+    }
+
+    private Mono<Map<Long, PartnerResponseDto>> fetchProfilesInBatch(List<Long> partnerIds) {
+        return webClientBuilder.build()
+                .post()
+                .uri(BASE_URL + "/partner/profiles/batch")
+                .bodyValue(Map.of("partnerIds", partnerIds))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<List<PartnerResponseDto>>>() {})
+                .map(body -> body.getData() == null ? List.<PartnerResponseDto>of() : body.getData())
+                .map(list -> list.stream()
+                        .filter(dto -> dto.getPartnerId() != null)
+                        .collect(Collectors.toMap(PartnerResponseDto::getPartnerId, Function.identity(), (a, b) -> a)));
+    }
+
+    // 없는 프로필(PARTNER_NOT_FOUND, data 없음)은 해당 ID만 결과에서 제외
+    private Mono<Map<Long, PartnerResponseDto>> fetchProfilesIndividually(List<Long> partnerIds) {
+        return Flux.fromIterable(partnerIds)
+                .flatMap(partnerId -> getPartnerProfileMono(partnerId)
+                        .map(dto -> {
+                            dto.setPartnerId(partnerId);
+                            return dto;
+                        })
+                        .onErrorResume(PartnerClient::isPartnerNotFound, ex -> Mono.empty()), FALLBACK_CONCURRENCY)
+                .collectMap(PartnerResponseDto::getPartnerId);
+    }
+
+    private static boolean isBatchUnsupported(Throwable ex) {
+        return ex instanceof WebClientResponseException.NotFound
+                || ex instanceof WebClientResponseException.MethodNotAllowed
+                || ex instanceof WebClientResponseException.NotImplemented;
+    }
+
+    private Mono<PartnerResponseDto> getPartnerProfileMono(Long partnerId) {
         return webClientBuilder.build()
                 .get()
                 .uri(BASE_URL + "/partner/profile/{partnerId}", partnerId)
@@ -46,12 +143,34 @@ public class PartnerClient {
                                 })
                 )
                 .bodyToMono(new ParameterizedTypeReference<ApiResponse<PartnerResponseDto>>() {})
-                .map(ApiResponse::getData)
-                .block();
+                .mapNotNull(ApiResponse::getData)
+                // data 없는 성공 응답도 없는 프로필로 취급
+                .switchIfEmpty(Mono.error(() -> new BusinessException(ErrorCode.PARTNER_NOT_FOUND)));
     }
 
     public void deletePartnerProfile(Long partnerId) {
-        webClientBuilder.build()
+        deletePartnerProfileMono(partnerId).block();
+    }
+
+    /**
+     * 파트너 프로필 삭제 (INTERNAL API, provisioning_outbox 릴레이용)
+     * - 이미 없는 프로필(PARTNER_NOT_FOUND)은 삭제된 것으로 간주하여 재전달 시에도 성공 처리
+     *
+     * @param partnerId 삭제할 partnerId
+     * @return 삭제된 partnerId
+     */
+    public Mono<Long> deletePartnerProfileAsync(Long partnerId) {
+        return deletePartnerProfileMono(partnerId)
+                .onErrorResume(PartnerClient::isPartnerNotFound, ex -> Mono.empty())
+                .thenReturn(partnerId);
+    }
+
+    private static boolean isPartnerNotFound(Throwable ex) {
+        return ex instanceof BusinessException be && be.getCode() == ErrorCode.PARTNER_NOT_FOUND.getCode();
+    }
+
+    private Mono<Void> deletePartnerProfileMono(Long partnerId) {
+        return webClientBuilder.build()
                 .delete()
                 .uri(BASE_URL + "/partner/delete/{partnerId}", partnerId)
                 .retrieve()
@@ -63,20 +182,31 @@ public class PartnerClient {
                                     if (code == 1504) {
                                         return Mono.error(new BusinessException(ErrorCode.PARTNER_NOT_FOUND));
                                     } else {
-                                        return Mono.error(new RuntimeException("Unknown error: " + message));
+                                        // 상태 코드 유지 (릴레이가 4xx를 재시도 불가로 분류)
+                                        return Mono.error(WebClientResponseException.create(
+                                                response.statusCode().value(), "Unknown error: " + message, null, null, null));
                                     }
                                 })
                 )
-                .bodyToMono(Void.class)
-                .block();
+                .bodyToMono(Void.class);
     }
 
-    public Long savePartnerProfile(PartnerProfileRequest requestDto) {
-        System.out.println(requestDto);
-        System.out.println(BASE_URL + "/partner/register");
+    /**
+     * 파트너 프로필 저장 (INTERNAL API)
+     *
+     * @param requestDto     저장할 프로필
+     * @param idempotencyKey 재시도 시 중복 생성 방지 키 (null이면 헤더 생략)
+     * @return 생성된 partnerId
+     */
+    public Mono<Long> savePartnerProfileAsync(PartnerProfileRequest requestDto, String idempotencyKey) {
         return webClientBuilder.build()
                 .post()
                 .uri(BASE_URL + "/partner/register")
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set(WebClientConfig.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                    }
+                })
                 .bodyValue(requestDto)
                 .retrieve()
                 .onStatus(status -> status.isError(), response ->
@@ -84,17 +214,17 @@ public class PartnerClient {
                                 .flatMap(body -> {
                                     int code = body.getCode();
                                     String message = body.getMessage();
-                                    System.out.println(BASE_URL + "/partners/register");
 
                                     if (code == 2501) {
                                         return Mono.error(new InfrastructureException(ErrorCode.DB_SAVE_FAILURE, new RuntimeException(message)));
                                     } else {
-                                        return Mono.error(new RuntimeException("Unknown error: " + message));
+                                        // 상태 코드 유지 (릴레이가 4xx를 재시도 불가로 분류)
+                                        return Mono.error(WebClientResponseException.create(
+                                                response.statusCode().value(), "Unknown error: " + message, null, null, null));
                                     }
                                 })
                 )
                 .bodyToMono(new ParameterizedTypeReference<ApiResponse<Long>>() {})
-                .map(ApiResponse::getData)
-                .block();
+                .map(ApiResponse::getData);
     }
 }
@@ -0,0 +1,42 @@
+package ready_to_marry.authservice.provisioning.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * application.properties의 auth.provisioning.relay.* 설정을 바인딩
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "auth.provisioning.relay")
+public class ProvisioningRelayProperties {
+    // 릴레이 사용 여부
+    private boolean enabled = true;
+
+    // 폴링 간격 (@Scheduled에서 ISO-8601 형식으로 참조, 예: PT1S)
+    private Duration interval = Duration.ofSeconds(1);
+
+    // 1회 선점할 최대 항목 수
+    private int batchSize = 50;
+
+    // 외부 서비스 동시 요청 수
+    private int concurrency = 8;
+
+    // 선점 유지 시간 (이 안에 결과를 기록하지 못하면 다른 노드가 다시 전달)
+    private Duration lease = Duration.ofSeconds(30);
+
+    // 항목별 외부 요청 최대 대기 시간 (ceil(batchSize / concurrency) * deliveryTimeout < lease 이어야 함)
+    private Duration deliveryTimeout = Duration.ofSeconds(3);
+
+    // 최대 전달 시도 횟수 (초과 시 FAILED)
+    private int maxAttempts = 10;
+
+    // 재시도 간격 (시도마다 2배, 최대 maxBackoff)
+    private Duration initialBackoff = Duration.ofSeconds(2);
+    private Duration maxBackoff = Duration.ofMinutes(5);
+}
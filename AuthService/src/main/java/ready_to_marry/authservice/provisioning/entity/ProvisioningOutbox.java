@@ -0,0 +1,73 @@
+package ready_to_marry.authservice.provisioning.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import ready_to_marry.authservice.common.enums.OutboxStatus;
+import ready_to_marry.authservice.common.enums.ProvisioningType;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * auth_db.provisioning_outbox 테이블 매핑 엔티티
+ *
+ * - 가입 트랜잭션 안에서 계정과 함께 저장되고, ProvisioningRelay가 커밋 후 외부 서비스에 전달
+ * - 전달 성공 시 행 삭제
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "provisioning_outbox")
+public class ProvisioningOutbox {
+    // PK (자동 생성)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id", updatable = false, nullable = false)
+    private Long id;
+
+    // 대상 계정 (auth_account의 account_id)
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    // 전달 대상 (PARTNER_PROFILE / ADMIN_PROFILE)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 40, nullable = false)
+    private ProvisioningType type;
+
+    // INTERNAL API 요청 DTO (JSON)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", columnDefinition = "jsonb", nullable = false)
+    private String payload;
+
+    // 재시도 시 중복 생성 방지용 키 (Idempotency-Key 헤더)
+    @Column(name = "idempotency_key", nullable = false, unique = true)
+    private UUID idempotencyKey;
+
+    // 전달 상태 (PENDING / FAILED)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private OutboxStatus status;
+
+    // 전달 시도 횟수
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 다음 전달 가능 시각 (전달 중에는 임대 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    // 마지막 실패 사유
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 생성 시각
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private OffsetDateTime createdAt;
+}
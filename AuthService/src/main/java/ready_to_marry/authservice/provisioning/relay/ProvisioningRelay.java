@@ -0,0 +1,210 @@
+package ready_to_marry.authservice.provisioning.relay;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ready_to_marry.authservice.account.service.AccountService;
+import ready_to_marry.authservice.admin.dto.request.AdminProfileRequest;
+import ready_to_marry.authservice.admin.service.AdminClient;
+import ready_to_marry.authservice.common.enums.ProvisioningType;
+import ready_to_marry.authservice.common.exception.BusinessException;
+import ready_to_marry.authservice.common.exception.ErrorCode;
+import ready_to_marry.authservice.common.util.JsonUtil;
+import ready_to_marry.authservice.partner.dto.request.PartnerProfileRequest;
+import ready_to_marry.authservice.partner.service.PartnerClient;
+import ready_to_marry.authservice.provisioning.config.ProvisioningRelayProperties;
+import ready_to_marry.authservice.provisioning.entity.ProvisioningOutbox;
+import ready_to_marry.authservice.provisioning.service.ProvisioningOutboxService;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * provisioning_outbox 항목을 외부 서비스에 전달하고 발급된 ID를 auth_account에 기록
+ *
+ * - 가입 API는 계정과 outbox 행만 커밋하고 응답 (외부 서비스 왕복 동안 DB 커넥션을 잡지 않음)
+ * - 승인 거부 API는 계정 삭제와 함께 프로필 삭제(PARTNER_PROFILE_DELETE) 행을 커밋, 릴레이가 삭제 후 행만 정리
+ * - batch-size건씩 선점 후 concurrency개까지 동시 요청, 결과는 항목별 짧은 트랜잭션으로 기록
+ * - 항목마다 고정된 Idempotency-Key로 요청 (하위 서비스가 지원하지 않을 수 있으므로 임대 만료 자체를 막는 것이 우선)
+ * - 항목별 delivery-timeout으로 배치 전체가 lease 안에 끝나도록 보장 (기동 시 검증)
+ * - 실패 시 지수 백오프 재시도, max-attempts 초과 또는 재시도 불가 오류(4xx, 408·429 제외)면 즉시 FAILED
+ * - 지표: auth.provisioning.relay.delivered(type), auth.provisioning.relay.failures(type), auth.provisioning.relay.dead(type),
+ *         auth.provisioning.relay.batch.duration
+ */
+@Slf4j
+@Component
+public class ProvisioningRelay {
+    private final ProvisioningOutboxService outboxService;
+    private final AccountService accountService;
+    private final PartnerClient partnerClient;
+    private final AdminClient adminClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ProvisioningRelayProperties props;
+    private final MeterRegistry meterRegistry;
+
+    public ProvisioningRelay(ProvisioningOutboxService outboxService,
+                             AccountService accountService,
+                             PartnerClient partnerClient,
+                             AdminClient adminClient,
+                             TransactionTemplate transactionTemplate,
+                             ProvisioningRelayProperties props,
+                             MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.accountService = accountService;
+        this.partnerClient = partnerClient;
+        this.adminClient = adminClient;
+        this.transactionTemplate = transactionTemplate;
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 배치의 최악 소요 시간(동시 요청 라운드 수 * delivery-timeout)이 lease를 넘으면 다른 노드가 같은 항목을 다시 선점하므로 기동 시 거절
+    @PostConstruct
+    void validate() {
+        long rounds = (props.getBatchSize() + props.getConcurrency() - 1) / props.getConcurrency();
+        Duration worstCase = props.getDeliveryTimeout().multipliedBy(rounds);
+        if (worstCase.compareTo(props.getLease()) >= 0) {
+            throw new IllegalStateException("auth.provisioning.relay: delivery-timeout * ceil(batch-size / concurrency) ("
+                    + worstCase + ") must be shorter than lease (" + props.getLease() + ")");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.provisioning.relay.interval:PT1S}")
+    public void relay() {
+        if (!props.isEnabled()) {
+            return;
+        }
+
+        // 1) 전달 가능한 항목 선점
+        List<ProvisioningOutbox> batch;
+        try {
+            batch = outboxService.claim(props.getBatchSize(), props.getLease());
+        } catch (DataAccessException ex) {
+            log.warn("Provisioning outbox claim failed", ex);
+            return;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        meterRegistry.timer("auth.provisioning.relay.batch.duration").record(() -> {
+            // 2) 외부 서비스에 동시 요청 (INTERNAL API)
+            List<Delivery> deliveries = Flux.fromIterable(batch)
+                    .flatMap(entry -> deliver(entry)
+                            .map(id -> new Delivery(entry, id, null))
+                            .onErrorResume(ex -> Mono.just(new Delivery(entry, null, ex))), props.getConcurrency())
+                    .collectList()
+                    .block();
+
+            // 3) 결과 기록 (항목별 짧은 트랜잭션)
+            deliveries.forEach(this::record);
+        });
+    }
+
+    private Mono<Long> deliver(ProvisioningOutbox entry) {
+        String idempotencyKey = entry.getIdempotencyKey().toString();
+        return Mono.<Long>defer(() -> switch (entry.getType()) {
+            case PARTNER_PROFILE -> partnerClient.savePartnerProfileAsync(
+                    JsonUtil.fromJson(entry.getPayload(), PartnerProfileRequest.class), idempotencyKey);
+            case ADMIN_PROFILE -> adminClient.saveAdminProfileAsync(
+                    JsonUtil.fromJson(entry.getPayload(), AdminProfileRequest.class), idempotencyKey);
+            case PARTNER_PROFILE_DELETE -> partnerClient.deletePartnerProfileAsync(
+                    JsonUtil.fromJson(entry.getPayload(), Long.class));
+        }).timeout(props.getDeliveryTimeout());
+    }
+
+    private void record(Delivery delivery) {
+        ProvisioningOutbox entry = delivery.entry();
+        String type = entry.getType().name();
+
+        if (delivery.error() != null || delivery.resultId() == null) {
+            recordFailure(entry, delivery.error());
+            return;
+        }
+
+        // 발급된 ID 기록 + outbox 행 삭제
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                switch (entry.getType()) {
+                    case PARTNER_PROFILE -> accountService.updatePartnerId(entry.getAccountId(), delivery.resultId());
+                    case ADMIN_PROFILE -> accountService.updateAdminId(entry.getAccountId(), delivery.resultId());
+                    case PARTNER_PROFILE_DELETE -> {
+                        // 계정은 이미 삭제됨 (기록할 ID 없음)
+                    }
+                }
+                outboxService.complete(entry.getId());
+            });
+            meterRegistry.counter("auth.provisioning.relay.delivered", "type", type).increment();
+        } catch (EntityNotFoundException ex) {
+            // 전달 사이에 계정이 삭제됨 (미인증 정리 등) -> 생성된 프로필 정리 후 항목 삭제
+            log.warn("{}: identifierType=accountId, identifierValue={}", ErrorCode.ACCOUNT_NOT_FOUND.getMessage(), entry.getAccountId());
+            discardOrphan(entry, delivery.resultId());
+        } catch (DataAccessException ex) {
+            // 기록 실패 시 임대 만료 후 같은 Idempotency-Key로 다시 전달
+            log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), entry.getAccountId(), ex);
+        }
+    }
+
+    private void recordFailure(ProvisioningOutbox entry, Throwable error) {
+        String type = entry.getType().name();
+        boolean exhausted = entry.getAttempts() >= props.getMaxAttempts() || !isRetryable(error);
+        OffsetDateTime nextAttemptAt = exhausted ? null : OffsetDateTime.now().plus(backoff(entry.getAttempts()));
+        String message = error == null ? "empty response" : error.toString();
+
+        meterRegistry.counter(exhausted ? "auth.provisioning.relay.dead" : "auth.provisioning.relay.failures", "type", type).increment();
+        log.error("{}: identifierType=accountId, identifierValue={}, type={}, attempts={}, exhausted={}",
+                ErrorCode.EXTERNAL_API_FAILURE.getMessage(), entry.getAccountId(), type, entry.getAttempts(), exhausted, error);
+
+        try {
+            outboxService.fail(entry.getId(), nextAttemptAt, message);
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=outboxId, identifierValue={}", ErrorCode.DB_SAVE_FAILURE.getMessage(), entry.getId(), ex);
+        }
+    }
+
+    private void discardOrphan(ProvisioningOutbox entry, Long resultId) {
+        if (entry.getType() == ProvisioningType.PARTNER_PROFILE) {
+            try {
+                partnerClient.deletePartnerProfile(resultId);
+            } catch (Exception e) {
+                log.error("{}: identifierType=partnerId, identifierValue={}", ErrorCode.EXTERNAL_API_FAILURE.getMessage(), resultId, e);
+            }
+        }
+        try {
+            outboxService.complete(entry.getId());
+        } catch (DataAccessException ex) {
+            log.error("{}: identifierType=outboxId, identifierValue={}", ErrorCode.DB_DELETE_FAILURE.getMessage(), entry.getId(), ex);
+        }
+    }
+
+    // 요청 자체가 거절된 오류는 재시도해도 결과가 같음 (비즈니스 오류, 408·429를 제외한 4xx)
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof BusinessException) {
+            return false;
+        }
+        if (error instanceof WebClientResponseException ex && ex.getStatusCode().is4xxClientError()) {
+            int status = ex.getStatusCode().value();
+            return status == 408 || status == 429;
+        }
+        return true;
+    }
+
+    // 시도 횟수별 재시도 간격 (initialBackoff * 2^(attempts-1), 최대 maxBackoff)
+    private Duration backoff(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = props.getInitialBackoff().multipliedBy(1L << shift);
+        return delay.compareTo(props.getMaxBackoff()) > 0 ? props.getMaxBackoff() : delay;
+    }
+
+    private record Delivery(ProvisioningOutbox entry, Long resultId, Throwable error) {
+    }
+}
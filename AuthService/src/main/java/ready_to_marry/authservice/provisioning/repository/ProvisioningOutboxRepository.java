@@ -0,0 +1,55 @@
+package ready_to_marry.authservice.provisioning.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ready_to_marry.authservice.common.enums.OutboxStatus;
+import ready_to_marry.authservice.provisioning.entity.ProvisioningOutbox;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * ProvisioningOutbox CRUD 및 전달 대상 선점용 레포지토리
+ */
+@Repository
+public interface ProvisioningOutboxRepository extends JpaRepository<ProvisioningOutbox, Long> {
+    /**
+     * 전달 가능한 PENDING 항목을 최대 limit건 선점 (시도 횟수 증가 + 임대 만료 시각까지 다른 노드에서 제외)
+     * - SKIP LOCKED: 여러 레플리카가 동시에 선점해도 같은 행을 나눠 갖지 않음
+     * - 선점한 행을 RETURNING으로 받아야 하므로 @Modifying(행 수만 반환) 없이 조회 쿼리로 실행 (트랜잭션은 ProvisioningOutboxService.claim)
+     *
+     * @param now        현재 시각
+     * @param leaseUntil 임대 만료 시각 (이때까지 결과를 기록하지 못하면 다시 전달 대상)
+     * @param limit      선점할 최대 건수
+     * @return 선점된 항목 목록
+     */
+    @Query(value = "update provisioning_outbox set attempts = attempts + 1, next_attempt_at = :leaseUntil " +
+            "where outbox_id in (" +
+            "select outbox_id from provisioning_outbox " +
+            "where status = 'PENDING' and next_attempt_at <= :now " +
+            "order by next_attempt_at, outbox_id " +
+            "limit :limit for update skip locked) " +
+            "returning *", nativeQuery = true)
+    List<ProvisioningOutbox> claimDue(@Param("now") OffsetDateTime now,
+                                      @Param("leaseUntil") OffsetDateTime leaseUntil,
+                                      @Param("limit") int limit);
+
+    /**
+     * 전달 실패 결과 기록
+     *
+     * @param id            outbox ID
+     * @param status        PENDING(재시도) / FAILED(재시도 중단)
+     * @param nextAttemptAt 다음 전달 가능 시각
+     * @param lastError     실패 사유
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update ProvisioningOutbox o set o.status = :status, o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError where o.id = :id")
+    int updateFailure(@Param("id") Long id,
+                      @Param("status") OutboxStatus status,
+                      @Param("nextAttemptAt") OffsetDateTime nextAttemptAt,
+                      @Param("lastError") String lastError);
+}
@@ -0,0 +1,50 @@
+package ready_to_marry.authservice.provisioning.service;
+
+import ready_to_marry.authservice.common.enums.ProvisioningType;
+import ready_to_marry.authservice.common.exception.InfrastructureException;
+import ready_to_marry.authservice.provisioning.entity.ProvisioningOutbox;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 외부 서비스 프로필 생성·삭제 요청(provisioning_outbox) 적재/선점/결과 기록
+ */
+public interface ProvisioningOutboxService {
+    /**
+     * 프로필 생성·삭제 요청 적재 (호출한 트랜잭션에 참여하여 계정 저장·삭제와 함께 커밋)
+     *
+     * @param accountId                 대상 계정의 UUID
+     * @param type                      전달 대상
+     * @param payload                   INTERNAL API 요청 DTO (삭제는 partnerId)
+     * @throws InfrastructureException  JSON_SERIALIZATION_FAILURE
+     */
+    void enqueue(UUID accountId, ProvisioningType type, Object payload);
+
+    /**
+     * 전달 가능한 항목을 최대 limit건 선점
+     *
+     * @param limit 선점할 최대 건수
+     * @param lease 선점 유지 시간
+     * @return 선점된 항목 목록
+     */
+    List<ProvisioningOutbox> claim(int limit, Duration lease);
+
+    /**
+     * 전달 완료 항목 삭제 (호출한 트랜잭션에 참여)
+     *
+     * @param id outbox ID
+     */
+    void complete(Long id);
+
+    /**
+     * 전달 실패 기록 (nextAttemptAt이 null이면 재시도 중단)
+     *
+     * @param id            outbox ID
+     * @param nextAttemptAt 다음 전달 가능 시각
+     * @param error         실패 사유
+     */
+    void fail(Long id, OffsetDateTime nextAttemptAt, String error);
+}
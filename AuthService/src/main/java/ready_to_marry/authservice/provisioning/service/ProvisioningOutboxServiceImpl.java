@@ -0,0 +1,63 @@
+package ready_to_marry.authservice.provisioning.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ready_to_marry.authservice.common.enums.OutboxStatus;
+import ready_to_marry.authservice.common.enums.ProvisioningType;
+import ready_to_marry.authservice.common.util.JsonUtil;
+import ready_to_marry.authservice.provisioning.entity.ProvisioningOutbox;
+import ready_to_marry.authservice.provisioning.repository.ProvisioningOutboxRepository;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ProvisioningOutboxServiceImpl implements ProvisioningOutboxService {
+    // last_error 컬럼 길이
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ProvisioningOutboxRepository provisioningOutboxRepository;
+
+    @Override
+    @Transactional
+    public void enqueue(UUID accountId, ProvisioningType type, Object payload) {
+        ProvisioningOutbox outbox = ProvisioningOutbox.builder()
+                .accountId(accountId)
+                .type(type)
+                .payload(JsonUtil.toJson(payload))
+                .idempotencyKey(UUID.randomUUID())
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(OffsetDateTime.now())
+                .build();
+        provisioningOutboxRepository.save(outbox);
+    }
+
+    @Override
+    @Transactional
+    public List<ProvisioningOutbox> claim(int limit, Duration lease) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return provisioningOutboxRepository.claimDue(now, now.plus(lease), limit);
+    }
+
+    @Override
+    @Transactional
+    public void complete(Long id) {
+        provisioningOutboxRepository.deleteById(id);
+    }
+
+    @Override
+    @Transactional
+    public void fail(Long id, OffsetDateTime nextAttemptAt, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (nextAttemptAt == null) {
+            provisioningOutboxRepository.updateFailure(id, OutboxStatus.FAILED, OffsetDateTime.now(), lastError);
+            return;
+        }
+        provisioningOutboxRepository.updateFailure(id, OutboxStatus.PENDING, nextAttemptAt, lastError);
+    }
+}
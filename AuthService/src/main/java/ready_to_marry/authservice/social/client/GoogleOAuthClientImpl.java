@@ -3,19 +3,17 @@ package ready_to_marry.authservice.social.client;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientRequestException;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 import ready_to_marry.authservice.common.exception.BusinessException;
 import ready_to_marry.authservice.common.exception.ErrorCode;
 import ready_to_marry.authservice.social.config.OAuthProviderProperties;
 import ready_to_marry.authservice.social.dto.external.OAuth2Token;
 import ready_to_marry.authservice.social.dto.external.SocialUserInfo;
+import ready_to_marry.authservice.social.util.OAuth2Utils;
 
 @Slf4j
 @Component("google")
@@ -49,22 +47,13 @@ public class GoogleOAuthClientImpl implements SocialOAuthClient {
     }
 
     @Override
-    // WebClientRequestException 또는 5xx 응답 발생 시, 최대 3회까지 재시도(backoff 2000ms)한 뒤 예외를 전파
-    @Retryable(
-            include = {
-                    WebClientRequestException.class,
-                    WebClientResponseException.InternalServerError.class
-            },
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 2000)
-    )
-    public OAuth2Token getToken(String code, String verifier) {
+    public Mono<OAuth2Token> getTokenAsync(String code, String verifier) {
         // 1) PROVIDER 설정 정보 조회
         OAuthProviderProperties.Provider prop = oAuthProviderProperties.getProvider(PROVIDER_NAME);
 
         if (prop == null) {
             log.error("{}: identifierType=provider, identifierValue={}", ErrorCode.PROVIDER_NOT_SUPPORTED.getMessage(), PROVIDER_NAME);
-            throw new BusinessException(ErrorCode.PROVIDER_NOT_SUPPORTED);
+            return Mono.error(new BusinessException(ErrorCode.PROVIDER_NOT_SUPPORTED));
         }
 
         return webClient.post()
@@ -86,27 +75,18 @@ public class GoogleOAuthClientImpl implements SocialOAuthClient {
                 // 5) 응답 데이터를 OAuth2Token 객체로 역직렬화
                 .bodyToMono(OAuth2Token.class)
 
-                // 6) OAuth2Token 객체 반환
-                .block();
+                // 6) 연결 실패 또는 5xx 응답 시 논블로킹 재시도(backoff) 후 OAuth2Token 객체 발행
+                .retryWhen(OAuth2Utils.providerRetrySpec());
     }
 
     @Override
-    // WebClientRequestException 또는 5xx 응답 발생 시, 최대 3회까지 재시도(backoff 2000ms)한 뒤 예외를 전파
-    @Retryable(
-            include = {
-                    WebClientRequestException.class,
-                    WebClientResponseException.InternalServerError.class
-            },
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 2000)
-    )
-    public SocialUserInfo getUserInfo(String accessToken) {
+    public Mono<SocialUserInfo> getUserInfoAsync(String accessToken) {
         // 1) PROVIDER 설정 정보 조회
         OAuthProviderProperties.Provider prop = oAuthProviderProperties.getProvider(PROVIDER_NAME);
 
         if (prop == null) {
             log.error("{}: identifierType=provider, identifierValue={}", ErrorCode.PROVIDER_NOT_SUPPORTED.getMessage(), PROVIDER_NAME);
-            throw new BusinessException(ErrorCode.PROVIDER_NOT_SUPPORTED);
+            return Mono.error(new BusinessException(ErrorCode.PROVIDER_NOT_SUPPORTED));
         }
 
         return webClient.get()
@@ -121,7 +101,7 @@ public class GoogleOAuthClientImpl implements SocialOAuthClient {
                 // 5) 응답 데이터를 SocialUserInfo 객체로 역직렬화
                 .bodyToMono(SocialUserInfo.class)
 
-                // 6) SocialUserInfo 객체 반환
-                .block();
+                // 6) 연결 실패 또는 5xx 응답 시 논블로킹 재시도(backoff) 후 SocialUserInfo 객체 발행
+                .retryWhen(OAuth2Utils.providerRetrySpec());
     }
 }
@@ -1,5 +1,6 @@
 package ready_to_marry.authservice.social.client;
 
+import reactor.core.publisher.Mono;
 import ready_to_marry.authservice.common.exception.BusinessException;
 import ready_to_marry.authservice.social.dto.external.OAuth2Token;
 import ready_to_marry.authservice.social.dto.external.SocialUserInfo;
@@ -9,6 +10,7 @@ import ready_to_marry.authservice.social.dto.external.SocialUserInfo;
  *
  * 각 소셜 제공자의 OAuth2 인증 과정을 처리
  * 구현 클래스는 소셜 제공자별로 개별 HTTP 요청·응답 구조를 처리
+ * 토큰 교환·사용자 정보 조회는 Mono로 반환하여 제공자 응답 대기 중 요청 스레드를 점유하지 않음
  */
 public interface SocialOAuthClient {
     /**
@@ -30,14 +32,14 @@ public interface SocialOAuthClient {
      * 3) 소셜 인증서버에 액세스 토큰 요청 (HTTP POST)
      * 4) 소셜 인증서버로부터 액세스 토큰 응답 수신
      * 5) 응답 데이터를 OAuth2Token 객체로 역직렬화
-     * 6) OAuth2Token 객체 반환
+     * 6) 연결 실패 또는 5xx 응답 시 논블로킹 재시도(backoff) 후 OAuth2Token 객체 발행
      *
      * @param code                      소셜 인증서버로부터 전달받은 인가 코드(Authorization Code)
      * @param verifier                  PKCE code_verifier or state (state-only 프로바이더)
-     * @return OAuth2Token              액세스 토큰 및 리프레시 토큰 정보가 담긴 OAuth2Token(DTO)
-     * @throws BusinessException        PROVIDER_NOT_SUPPORTED
+     * @return Mono<OAuth2Token>        액세스 토큰 및 리프레시 토큰 정보가 담긴 OAuth2Token(DTO)
+     * @throws BusinessException        PROVIDER_NOT_SUPPORTED (Mono error 시그널)
      */
-    OAuth2Token getToken(String code, String verifier);
+    Mono<OAuth2Token> getTokenAsync(String code, String verifier);
 
     /**
      * 액세스 토큰 → 사용자 정보 조회
@@ -46,11 +48,11 @@ public interface SocialOAuthClient {
      * 3) 소셜 인증서버에 사용자 정보 요청 (HTTP GET)
      * 4) 소셜 인증서버로부터 사용자 정보 응답 수신
      * 5) 응답 데이터를 SocialUserInfo 객체로 역직렬화
-     * 6) SocialUserInfo 객체 반환
+     * 6) 연결 실패 또는 5xx 응답 시 논블로킹 재시도(backoff) 후 SocialUserInfo 객체 발행
      *
      * @param accessToken               소셜 인증서버가 발급한 유효한 액세스 토큰
-     * @return SocialUserInfo           사용자의 소셜 고유 ID를 담고 있는 SocialUserInfo(DTO)
-     * @throws BusinessException        PROVIDER_NOT_SUPPORTED
+     * @return Mono<SocialUserInfo>     사용자의 소셜 고유 ID를 담고 있는 SocialUserInfo(DTO)
+     * @throws BusinessException        PROVIDER_NOT_SUPPORTED (Mono error 시그널)
      */
-    SocialUserInfo getUserInfo(String accessToken);
+    Mono<SocialUserInfo> getUserInfoAsync(String accessToken);
 }
@@ -3,6 +3,7 @@ package ready_to_marry.authservice.social.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ready_to_marry.authservice.common.dto.response.ApiResponse;
 import ready_to_marry.authservice.common.dto.response.JwtResponse;
 import ready_to_marry.authservice.social.dto.SocialLoginResult;
@@ -49,10 +50,14 @@ public class OAuth2Controller {
      * - status = SUCCESS: data.tokens에 JWT 토큰 정보 세팅 (JWT 토큰 발급 완료)
      */
     @GetMapping("/callback/{provider}")
-    public ResponseEntity<ApiResponse<SocialAuthResponse>> callback(@PathVariable String provider, @RequestParam("code")  String code, @RequestParam("state") String state) {
+    public Mono<ResponseEntity<ApiResponse<SocialAuthResponse>>> callback(@PathVariable String provider, @RequestParam("code")  String code, @RequestParam("state") String state) {
         // 1) 소셜 인증 서버로부터 받은 인가 코드와 state를 처리하여 소셜 로그인 로그인 또는 2단계 가입 흐름을 수행
-        SocialLoginResult result = oauth2Service.handleCallback(provider, code, state);
+        //    (비동기 처리: 소셜 인증 서버 응답 대기 중 요청 스레드 반환)
+        return oauth2Service.handleCallback(provider, code, state)
+                .map(this::toCallbackResponse);
+    }
 
+    private ResponseEntity<ApiResponse<SocialAuthResponse>> toCallbackResponse(SocialLoginResult result) {
         SocialAuthResponse resp;
         String message;
         if (result.isProfileIncomplete()) {
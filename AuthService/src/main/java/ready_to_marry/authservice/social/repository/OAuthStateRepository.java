@@ -17,17 +17,10 @@ public interface OAuthStateRepository {
     void save(String state, String verifier, Duration ttl);
 
     /**
-     * state 로 저장된 verifier 조회
+     * state 로 저장된 verifier 를 조회와 동시에 삭제 (원자적, 1회 왕복)
      *
      * @param state                CSRF 방지를 위한 state 문자열
-     * @return Optional<String>    verifier (없으면 Optional.empty)
+     * @return Optional<String>    verifier (없거나 이미 소비되었으면 Optional.empty)
      */
-    Optional<String> find(String state);
-
-    /**
-     * state 키 삭제
-     *
-     * @param state     CSRF 방지를 위한 state 문자열
-     */
-    void delete(String state);
+    Optional<String> take(String state);
 }
@@ -1,35 +1,105 @@
 package ready_to_marry.authservice.social.repository;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
+import ready_to_marry.authservice.common.config.RedisEncodingProperties;
+import ready_to_marry.authservice.common.redis.RedisTakeOperations;
+import ready_to_marry.authservice.common.util.CompactRedisCodec;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * Redis 기반 OAuth2 state → PKCE verifier 저장소
+ *
+ * - LEGACY 형식: "oauth2_state:<state 문자열>" → verifier 문자열(43자)
+ * - COMPACT 형식: "os:" + state 16바이트 → verifier 원본 32바이트
+ * - auth.redis.encodingMode에 따라 저장 형식을 선택하고, DUAL/COMPACT 모드는 저장 형식 → 다른 형식 순으로 조회
+ * - 조회는 GETDEL(take)로 1회 소비
+ */
 @Repository
-@RequiredArgsConstructor
 public class RedisOAuthStateRepository implements OAuthStateRepository {
     private static final String KEY_PREFIX = "oauth2_state:";
+    private static final String COMPACT_KEY_PREFIX = "os:";
 
-    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<byte[], byte[]> redisTemplate;
+    private final RedisEncodingProperties encodingProperties;
+    private final RedisTakeOperations takeOperations;
+
+    public RedisOAuthStateRepository(RedisTemplate<byte[], byte[]> binaryRedisTemplate,
+                                     RedisEncodingProperties encodingProperties,
+                                     RedisTakeOperations takeOperations) {
+        this.redisTemplate = binaryRedisTemplate;
+        this.encodingProperties = encodingProperties;
+        this.takeOperations = takeOperations;
+    }
 
     @Override
     public void save(String state, String verifier, Duration ttl) {
-        String key = KEY_PREFIX + state;
-        redisTemplate.opsForValue().set(key, verifier, ttl);
+        UUID stateId = parseUuid(state);
+        byte[] rawVerifier = decodeVerifier(verifier);
+        if (stateId != null && rawVerifier != null && mode() == RedisEncodingProperties.EncodingMode.COMPACT) {
+            redisTemplate.opsForValue().set(compactKey(stateId), rawVerifier, ttl);
+            return;
+        }
+        redisTemplate.opsForValue().set(legacyKey(state), verifier.getBytes(StandardCharsets.UTF_8), ttl);
     }
 
     @Override
-    public Optional<String> find(String state) {
-        String key = KEY_PREFIX + state;
-        String v = redisTemplate.opsForValue().get(key);
-        return Optional.ofNullable(v);
+    public Optional<String> take(String state) {
+        UUID stateId = parseUuid(state);
+        if (stateId == null || mode() == RedisEncodingProperties.EncodingMode.LEGACY) {
+            return takeLegacy(state);
+        }
+
+        // 현재 모드가 저장하는 형식을 먼저 소비 (DUAL: 기존 형식, COMPACT: compact) → 정상 흐름은 1회 왕복
+        // 다른 형식은 모드 전환 전에 저장된 state가 남아 있을 때만 조회됨
+        if (mode() == RedisEncodingProperties.EncodingMode.DUAL) {
+            return takeLegacy(state).or(() -> takeCompact(stateId));
+        }
+        return takeCompact(stateId).or(() -> takeLegacy(state));
     }
 
-    @Override
-    public void delete(String state) {
-        String key = KEY_PREFIX + state;
-        redisTemplate.delete(key);
+    private Optional<String> takeLegacy(String state) {
+        byte[] v = takeOperations.take(legacyKey(state));
+        return Optional.ofNullable(v).map(bytes -> new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private Optional<String> takeCompact(UUID stateId) {
+        byte[] v = takeOperations.take(compactKey(stateId));
+        return Optional.ofNullable(v).map(CompactRedisCodec::encodeBase64Url);
+    }
+
+    private RedisEncodingProperties.EncodingMode mode() {
+        return encodingProperties.getEncodingMode();
+    }
+
+    private static byte[] legacyKey(String state) {
+        return CompactRedisCodec.stringKey(KEY_PREFIX, state);
+    }
+
+    private static byte[] compactKey(UUID stateId) {
+        return CompactRedisCodec.uuidKey(COMPACT_KEY_PREFIX, stateId);
+    }
+
+    // 외부 입력 state가 UUID 형식이 아니면 compact 키를 만들 수 없으므로 기존 형식만 사용
+    private static UUID parseUuid(String state) {
+        try {
+            return UUID.fromString(state);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    // 다시 인코딩했을 때 원문과 같은 경우에만 원본 바이트로 저장 (그 외는 기존 형식)
+    private static byte[] decodeVerifier(String verifier) {
+        try {
+            byte[] raw = CompactRedisCodec.decodeBase64Url(verifier);
+            return CompactRedisCodec.encodeBase64Url(raw).equals(verifier) ? raw : null;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
     }
 }
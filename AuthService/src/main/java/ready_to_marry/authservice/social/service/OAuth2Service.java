@@ -1,5 +1,6 @@
 package ready_to_marry.authservice.social.service;
 
+import reactor.core.publisher.Mono;
 import ready_to_marry.authservice.common.exception.BusinessException;
 import ready_to_marry.authservice.common.exception.InfrastructureException;
 import ready_to_marry.authservice.social.dto.SocialLoginResult;
@@ -29,15 +30,18 @@ public interface OAuth2Service {
      * 소셜 인증 서버로부터 받은 인가 코드와 state를 처리하여 로그인 또는 2단계 가입 흐름을 수행
      * 1) Redis에서 state로 PKCE verifier(code_verifier) 조회 → → CSRF/state 검증 겸 만료 검증
      * 2) Provider 로 SocialOAuthClient 조회
-     * 3) 인가 코드 → 액세스 토큰 교환
-     * 4) 액세스 토큰 → 사용자 정보 조회
+     * 3) 인가 코드 → 액세스 토큰 교환 (논블로킹)
+     * 4) 액세스 토큰 → 사용자 정보 조회 (논블로킹)
      * 5) socialId 생성 (provider|id)
      * 6) 2단계 가입 흐름 수행
      *
+     * Redis·DB 호출(1, 6)은 boundedElastic 스케줄러에서 실행하고, 소셜 인증서버 응답 대기(3, 4) 중에는 스레드를 점유하지 않음
+     * 예외는 Mono error 시그널로 전달
+     *
      * @param provider                  소셜 로그인 제공자 (예: "kakao")
      * @param code                      소셜 인증 서버가 전달한 인가 코드
      * @param state                     요청 시 전달된 CSRF 방지용 state 값
-     * @return SocialLoginResult        로그인 결과 (JWT 토큰 발급 or 프로필 입력 요청)
+     * @return Mono<SocialLoginResult>  로그인 결과 (JWT 토큰 발급 or 프로필 입력 요청)
      * @throws BusinessException        PROVIDER_NOT_SUPPORTED
      * @throws BusinessException        INVALID_OAUTH2_STATE
      * @throws InfrastructureException  OAUTH_STATE_RETRIEVE_REMOVE_FAILURE
@@ -47,5 +51,5 @@ public interface OAuth2Service {
      * @throws InfrastructureException  DB_SAVE_FAILURE
      * @throws InfrastructureException  REFRESH_TOKEN_SAVE_FAILURE
      */
-    SocialLoginResult handleCallback(String provider, String code, String state);
+    Mono<SocialLoginResult> handleCallback(String provider, String code, String state);
 }
\ No newline at end of file
@@ -4,17 +4,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import ready_to_marry.authservice.common.exception.BusinessException;
 import ready_to_marry.authservice.common.exception.ErrorCode;
 import ready_to_marry.authservice.common.exception.InfrastructureException;
 import ready_to_marry.authservice.common.util.MaskingUtil;
 import ready_to_marry.authservice.social.client.SocialOAuthClient;
 import ready_to_marry.authservice.social.dto.SocialLoginResult;
-import ready_to_marry.authservice.social.dto.external.OAuth2Token;
-import ready_to_marry.authservice.social.dto.external.SocialUserInfo;
 import ready_to_marry.authservice.social.util.OAuth2Utils;
 import ready_to_marry.authservice.user.service.UserAuthService;
 
@@ -56,12 +55,46 @@ public class OAuth2ServiceImpl implements OAuth2Service {
     }
 
     @Override
-    @Transactional
-    public SocialLoginResult handleCallback(String provider, String code, String state) {
-        // 1) Redis에서 state로 PKCE verifier(code_verifier) 조회 → → CSRF/state 검증 겸 만료 검증
-        String verifier;
+    public Mono<SocialLoginResult> handleCallback(String provider, String code, String state) {
+        // 1) Redis에서 state로 PKCE verifier(code_verifier) 조회 → → CSRF/state 검증 겸 만료 검증 (블로킹 호출)
+        return Mono.fromCallable(() -> retrieveVerifier(state))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(verifier -> {
+                    // 2) Provider 로 SocialOAuthClient 조회
+                    SocialOAuthClient client = oauthClients.get(provider);
+
+                    if (client == null) {
+                        log.error("{}: identifierType=provider, identifierValue={}", ErrorCode.PROVIDER_NOT_SUPPORTED.getMessage(), provider);
+                        return Mono.error(new BusinessException(ErrorCode.PROVIDER_NOT_SUPPORTED));
+                    }
+
+                    // 3) 인가 코드 → 액세스 토큰 교환
+                    return client.getTokenAsync(code, verifier)
+                            .onErrorMap(OAuth2ServiceImpl::isWebClientFailure, ex -> {
+                                log.error("{}: identifierType=code, identifierValue={}", ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILURE.getMessage(), MaskingUtil.maskCode(code), ex);
+                                return new InfrastructureException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILURE, ex);
+                            })
+
+                            // 4) 액세스 토큰 → 사용자 정보 조회
+                            .flatMap(token -> client.getUserInfoAsync(token.getAccessToken())
+                                    .onErrorMap(OAuth2ServiceImpl::isWebClientFailure, ex -> {
+                                        log.error("{}: identifierType=accessToken, identifierValue={}", ErrorCode.OAUTH_USERINFO_FAILURE.getMessage(), MaskingUtil.maskToken(token.getAccessToken()), ex);
+                                        return new InfrastructureException(ErrorCode.OAUTH_USERINFO_FAILURE, ex);
+                                    }));
+                })
+
+                // 5) socialId 생성 (provider|id)
+                .map(userInfo -> provider + "|" + userInfo.getId())
+
+                // 6) 2단계 가입 흐름 수행 (DB·Redis 블로킹 호출이므로 WebClient 이벤트 루프에서 벗어나 실행)
+                .publishOn(Schedulers.boundedElastic())
+                .map(socialId -> userAuthService.socialLogin(provider, socialId));
+    }
+
+    // state 소비 후 verifier 반환 (없거나 만료 시 INVALID_OAUTH2_STATE)
+    private String retrieveVerifier(String state) {
         try {
-            verifier = oAuthStateService.retrieveAndRemoveVerifier(state)
+            return oAuthStateService.retrieveAndRemoveVerifier(state)
                     .orElseThrow(() -> {
                         log.error("{}: identifierType=state, identifierValue={}", ErrorCode.INVALID_OAUTH2_STATE.getMessage(), MaskingUtil.maskState(state));
                         return new BusinessException(ErrorCode.INVALID_OAUTH2_STATE);
@@ -70,37 +103,9 @@ public class OAuth2ServiceImpl implements OAuth2Service {
             log.error("{}: identifierType=state, identifierValue={}", ErrorCode.OAUTH_STATE_RETRIEVE_REMOVE_FAILURE.getMessage(), MaskingUtil.maskState(state), ex);
             throw new InfrastructureException(ErrorCode.OAUTH_STATE_RETRIEVE_REMOVE_FAILURE, ex);
         }
+    }
 
-        // 2) Provider 로 SocialOAuthClient 조회
-        SocialOAuthClient client = oauthClients.get(provider);
-
-        if (client == null) {
-            log.error("{}: identifierType=provider, identifierValue={}", ErrorCode.PROVIDER_NOT_SUPPORTED.getMessage(), provider);
-            throw new BusinessException(ErrorCode.PROVIDER_NOT_SUPPORTED);
-        }
-
-        // 3) 인가 코드 → 액세스 토큰 교환
-        OAuth2Token token;
-        try {
-            token = client.getToken(code, verifier);
-        } catch (WebClientRequestException | WebClientResponseException ex) {
-            log.error("{}: identifierType=code, identifierValue={}", ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILURE.getMessage(), MaskingUtil.maskCode(code), ex);
-            throw new InfrastructureException(ErrorCode.OAUTH_TOKEN_EXCHANGE_FAILURE, ex);
-        }
-
-        // 4) 액세스 토큰 → 사용자 정보 조회
-        SocialUserInfo userInfo;
-        try {
-            userInfo = client.getUserInfo(token.getAccessToken());
-        } catch (WebClientRequestException | WebClientResponseException ex) {
-            log.error("{}: identifierType=accessToken, identifierValue={}", ErrorCode.OAUTH_USERINFO_FAILURE.getMessage(), MaskingUtil.maskToken(token.getAccessToken()), ex);
-            throw new InfrastructureException(ErrorCode.OAUTH_USERINFO_FAILURE, ex);
-        }
-
-        // 5) socialId 생성 (provider|id)
-        String socialId = provider + "|" + userInfo.getId();
-
-        // 6) 2단계 가입 흐름 수행
-        return userAuthService.socialLogin(provider, socialId);
+    private static boolean isWebClientFailure(Throwable ex) {
+        return ex instanceof WebClientRequestException || ex instanceof WebClientResponseException;
     }
 }
@@ -15,7 +15,7 @@ public interface OAuthStateService {
     void saveVerifier(String state, String verifier);
 
     /**
-     * 저장된 verifier(code_verifier)를 state 키로 조회하고, 조회 후 해당 키를 삭제
+     * 저장된 verifier(code_verifier)를 state 키로 조회하면서 해당 키를 삭제 (원자적, 1회 소비)
      *
      * @param state               CSRF 방지를 위한 state 문자열
      * @return Optional<String>   조회된 code_verifier 문자열 (없으면 Optional.empty)
@@ -2,6 +2,7 @@ package ready_to_marry.authservice.social.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
@@ -28,15 +29,14 @@ public class OAuthStateServiceImpl implements OAuthStateService {
     }
 
     @Override
-    // 조회 또는 삭제 중 DataAccessException 발생 시, 최대 3회까지 재시도(backoff 100ms)한 뒤 예외를 전파
+    // 조회+삭제(GETDEL)는 재실행 시 이미 소비된 값을 찾지 못하므로,
+    // 명령이 전달되지 않은 연결 실패(RedisConnectionFailureException)만 최대 3회까지 재시도(backoff 100ms)
     @Retryable(
-            include = DataAccessException.class,
+            include = RedisConnectionFailureException.class,
             maxAttempts = 3,
             backoff = @Backoff(delay = 100)
     )
     public Optional<String> retrieveAndRemoveVerifier(String state) {
-        Optional<String> verifier = oAuthStateRepository.find(state);
-        verifier.ifPresent(v -> oAuthStateRepository.delete(state));
-        return verifier;
+        return oAuthStateRepository.take(state);
     }
 }
@@ -1,6 +1,9 @@
 package ready_to_marry.authservice.social.util;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.util.retry.Retry;
 import ready_to_marry.authservice.common.exception.ErrorCode;
 import ready_to_marry.authservice.common.exception.InfrastructureException;
 import ready_to_marry.authservice.common.util.MaskingUtil;
@@ -8,6 +11,7 @@ import ready_to_marry.authservice.common.util.MaskingUtil;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.UUID;
 
@@ -16,6 +20,11 @@ public class OAuth2Utils {
     private static final SecureRandom random = new SecureRandom();
     private static final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
 
+    // 소셜 인증서버 호출 재시도: 최초 요청 포함 최대 3회, 2000ms부터 지수 backoff (지연은 타이머로 처리, 스레드 sleep 없음)
+    private static final Retry PROVIDER_RETRY_SPEC = Retry.backoff(2, Duration.ofMillis(2000))
+            .filter(OAuth2Utils::isRetryableProviderFailure)
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
     private OAuth2Utils() {
         // 유틸 클래스이므로 인스턴스 생성 방지
     }
@@ -51,4 +60,21 @@ public class OAuth2Utils {
     public static String generateState() {
         return UUID.randomUUID().toString();
     }
+
+    /**
+     * 소셜 인증서버 WebClient 호출용 reactive 재시도 정책
+     * - WebClientRequestException(연결 실패) 또는 5xx 응답만 재시도
+     * - 재시도 소진 시 마지막 원본 예외를 그대로 전파
+     */
+    public static Retry providerRetrySpec() {
+        return PROVIDER_RETRY_SPEC;
+    }
+
+    private static boolean isRetryableProviderFailure(Throwable ex) {
+        if (ex instanceof WebClientRequestException) {
+            return true;
+        }
+        return ex instanceof WebClientResponseException responseEx
+                && responseEx.getStatusCode().is5xxServerError();
+    }
 }
@@ -0,0 +1,36 @@
+package ready_to_marry.authservice.token.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ready_to_marry.authservice.common.jwt.JwtKeyRing;
+import ready_to_marry.authservice.common.jwt.JwtProperties;
+
+import java.util.Map;
+
+/**
+ * JWT 검증용 공개키(JWKS)를 제공하는 컨트롤러
+ *
+ * - Gateway가 공유 비밀키 없이 kid로 공개키를 찾아 Access Token을 로컬 검증하도록 노출
+ * - RFC 7517 JWK Set 형식 그대로 응답 (ApiResponse로 감싸지 않음)
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    private final JwtKeyRing keyRing;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * 현재 검증 가능한 공개키 목록 조회
+     *
+     * @return {"keys": [...]} 형식의 JWK Set (Cache-Control: max-age=jwksCacheTtl)
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(jwtProperties.getAsymmetric().getJwksCacheTtl()).cachePublic())
+                .body(Map.of("keys", keyRing.publicJwks()));
+    }
+}
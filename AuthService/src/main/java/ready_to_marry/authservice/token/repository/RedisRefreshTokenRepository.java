@@ -1,35 +1,216 @@
 package ready_to_marry.authservice.token.repository;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
+import ready_to_marry.authservice.common.jwt.JwtProperties;
+import ready_to_marry.authservice.common.util.TokenDigestUtil;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * Redis 기반 Refresh Token 저장소
+ *
+ * - 세션(기기)별 저장: refresh_session:<accountId> 해시(sid → 토큰) + refresh_session_lru:<accountId> ZSET(sid → 마지막 사용 시각)
+ * - sid로 O(1) 조회, 계정당 최대 세션 수 초과 시 가장 오래 사용되지 않은 세션부터 제거 (키 스캔 없음)
+ * - jwt.refreshStorageMode에 따라 원문(PLAIN) 또는 SHA-256 다이제스트 32바이트(DIGEST)를 바이너리로 저장
+ * - DUAL/DIGEST 모드는 원문과 다이제스트 저장값을 모두 검증 (롤아웃 중 기존 원문 값은 TTL 경과 후 자연 소멸)
+ * - 저장값 비교는 조회·교체와 같은 Lua 스크립트 안에서만 수행 (Java 쪽 비교 경로 없음, 상수 시간 비교는 제공하지 않음)
+ * - 메모리 절감은 DIGEST 모드에서만 적용되며 DUAL → DIGEST 전환은 배포 시 필수 단계 (JwtProperties.RefreshStorageMode 참고)
+ * - 교체 재시도 멱등성은 세션 해시의 <sid>#r 필드에 기록한 교체 요청 nonce로 판단 (토큰 값 동일 여부에 의존하지 않음)
+ * - sid 없는 기존 토큰은 refresh_token:<accountId> 단일 키에 남아 있으며, 리프레시 시 한 스크립트 안에서 소비 후 세션으로 이전
+ */
 @Repository
-@RequiredArgsConstructor
 public class RedisRefreshTokenRepository implements RefreshTokenRepository {
-    private static final String KEY_PREFIX = "refresh_token:";
+    private static final String LEGACY_KEY_PREFIX = "refresh_token:";
+    private static final String SESSION_KEY_PREFIX = "refresh_session:";
+    private static final String SESSION_LRU_KEY_PREFIX = "refresh_session_lru:";
 
-    private final StringRedisTemplate redisTemplate;
+    // 세션 등록 + 만료/초과 세션 정리 + TTL 갱신 (ISSUE/MIGRATE_LEGACY 스크립트 공용 Lua 함수)
+    // - KEYS[1] = 세션 해시, KEYS[2] = LRU ZSET
+    // - ARGV[1] = sid, ARGV[2] = 저장값, ARGV[3] = 현재 시각(ms), ARGV[4] = TTL(ms), ARGV[5] = 최대 세션 수
+    // - 반환값: 초과로 제거된 세션 수
+    private static final String STORE_SESSION_FUNCTION = """
+            local function storeSession()
+                local now = tonumber(ARGV[3])
+                local ttl = tonumber(ARGV[4])
+                local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', '(' .. (now - ttl))
+                for _, sid in ipairs(expired) do
+                    redis.call('HDEL', KEYS[1], sid, sid .. '#r')
+                end
+                redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '(' .. (now - ttl))
+                redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+                redis.call('ZADD', KEYS[2], now, ARGV[1])
+                local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[5])
+                if overflow < 0 then
+                    overflow = 0
+                end
+                if overflow > 0 then
+                    local oldest = redis.call('ZRANGE', KEYS[2], 0, overflow - 1)
+                    for _, sid in ipairs(oldest) do
+                        redis.call('HDEL', KEYS[1], sid, sid .. '#r')
+                    end
+                    redis.call('ZREMRANGEBYRANK', KEYS[2], 0, overflow - 1)
+                end
+                redis.call('PEXPIRE', KEYS[1], ttl)
+                redis.call('PEXPIRE', KEYS[2], ttl)
+                return overflow
+            end
+            """;
+
+    // 새 세션 등록
+    // - KEYS/ARGV는 STORE_SESSION_FUNCTION과 같음
+    // - 반환값: 초과로 제거된 세션 수
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(STORE_SESSION_FUNCTION + """
+            return storeSession()
+            """, Long.class);
+
+    // 세션 토큰 비교 + 교체 + TTL 갱신을 서버에서 원자적으로 수행
+    // - KEYS[1] = 세션 해시, KEYS[2] = LRU ZSET
+    // - ARGV[1] = sid, ARGV[2] = 기존 토큰 원문, ARGV[3] = 기존 토큰 다이제스트, ARGV[4] = 새 저장값, ARGV[5] = 현재 시각(ms), ARGV[6] = TTL(ms),
+    //   ARGV[7] = 교체 요청 nonce
+    // - 반환값: 1 = ROTATED, 0 = NOT_FOUND, 3 = REUSED (세션 폐기)
+    // - 마지막 교체가 같은 nonce로 이루어졌으면 ROTATED (재시도 시 멱등)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if not current then
+                return 0
+            end
+            local nonceField = ARGV[1] .. '#r'
+            if redis.call('HGET', KEYS[1], nonceField) == ARGV[7] then
+                return 1
+            end
+            if current ~= ARGV[2] and current ~= ARGV[3] then
+                redis.call('HDEL', KEYS[1], ARGV[1], nonceField)
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                return 3
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[4], nonceField, ARGV[7])
+            redis.call('ZADD', KEYS[2], ARGV[5], ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            redis.call('PEXPIRE', KEYS[2], ARGV[6])
+            return 1
+            """, Long.class);
+
+    // sid 없는 기존 단일 키 토큰 비교 + 삭제 + 새 세션 등록을 서버에서 원자적으로 수행 (세션 모델로 이전)
+    // - KEYS[1] = 세션 해시, KEYS[2] = LRU ZSET, KEYS[3] = 기존 단일 키
+    // - ARGV[1..5]는 STORE_SESSION_FUNCTION과 같음 (ARGV[1] = 새 sid, ARGV[2] = 새 저장값)
+    // - ARGV[6] = 기존 토큰 원문, ARGV[7] = 기존 토큰 다이제스트, ARGV[8] = 교체 요청 nonce
+    // - 반환값: 1 = ROTATED, 0 = NOT_FOUND, 2 = MISMATCH
+    // - 새 sid가 같은 nonce로 이미 등록되어 있으면 ROTATED (기존 키 삭제 후 재시도 시 멱등)
+    private static final RedisScript<Long> MIGRATE_LEGACY_SCRIPT = new DefaultRedisScript<>(STORE_SESSION_FUNCTION + """
+            local nonceField = ARGV[1] .. '#r'
+            if redis.call('HGET', KEYS[1], nonceField) == ARGV[8] then
+                return 1
+            end
+            local current = redis.call('GET', KEYS[3])
+            if not current then
+                return 0
+            end
+            if current ~= ARGV[6] and current ~= ARGV[7] then
+                return 2
+            end
+            redis.call('DEL', KEYS[3])
+            storeSession()
+            redis.call('HSET', KEYS[1], nonceField, ARGV[8])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<byte[], byte[]> redisTemplate;
+    private final JwtProperties jwtProperties;
+
+    public RedisRefreshTokenRepository(RedisTemplate<byte[], byte[]> binaryRedisTemplate, JwtProperties jwtProperties) {
+        this.redisTemplate = binaryRedisTemplate;
+        this.jwtProperties = jwtProperties;
+    }
 
     @Override
-    public void save(UUID accountId, String token, Duration ttl) {
-        String key = KEY_PREFIX + accountId;
-        redisTemplate.opsForValue().set(key, token, ttl);
+    public int saveSession(UUID accountId, String sessionId, String token, Duration ttl, int maxSessions) {
+        Long evicted = redisTemplate.execute(
+                ISSUE_SCRIPT,
+                List.of(sessionKey(accountId), sessionLruKey(accountId)),
+                bytes(sessionId), storedValue(token), bytes(System.currentTimeMillis()),
+                bytes(ttl.toMillis()), bytes(maxSessions)
+        );
+        return evicted == null ? 0 : evicted.intValue();
     }
 
     @Override
-    public Optional<String> find(UUID accountId) {
-        String key = KEY_PREFIX + accountId;
-        return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+    public RefreshTokenRotationResult rotateSession(UUID accountId, String sessionId, String expectedToken, String newToken, String rotationId, Duration ttl) {
+        Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(sessionKey(accountId), sessionLruKey(accountId)),
+                bytes(sessionId), bytes(expectedToken), expectedDigest(expectedToken), storedValue(newToken),
+                bytes(System.currentTimeMillis()), bytes(ttl.toMillis()), bytes(rotationId)
+        );
+        return toResult(result);
+    }
+
+    @Override
+    public RefreshTokenRotationResult migrateLegacy(UUID accountId, String expectedToken, String sessionId, String newToken,
+                                                    String rotationId, Duration ttl, int maxSessions) {
+        Long result = redisTemplate.execute(
+                MIGRATE_LEGACY_SCRIPT,
+                List.of(sessionKey(accountId), sessionLruKey(accountId), bytes(LEGACY_KEY_PREFIX + accountId)),
+                bytes(sessionId), storedValue(newToken), bytes(System.currentTimeMillis()),
+                bytes(ttl.toMillis()), bytes(maxSessions),
+                bytes(expectedToken), expectedDigest(expectedToken), bytes(rotationId)
+        );
+        return toResult(result);
     }
 
     @Override
     public void delete(UUID accountId) {
-        String key = KEY_PREFIX + accountId;
-        redisTemplate.delete(key);
+        redisTemplate.delete(List.of(
+                sessionKey(accountId),
+                sessionLruKey(accountId),
+                bytes(LEGACY_KEY_PREFIX + accountId)
+        ));
+    }
+
+    private static RefreshTokenRotationResult toResult(Long result) {
+        if (result == null || result == 0L) {
+            return RefreshTokenRotationResult.NOT_FOUND;
+        }
+        if (result == 1L) {
+            return RefreshTokenRotationResult.ROTATED;
+        }
+        return result == 3L ? RefreshTokenRotationResult.REUSED : RefreshTokenRotationResult.MISMATCH;
+    }
+
+    private static byte[] sessionKey(UUID accountId) {
+        return bytes(SESSION_KEY_PREFIX + accountId);
+    }
+
+    private static byte[] sessionLruKey(UUID accountId) {
+        return bytes(SESSION_LRU_KEY_PREFIX + accountId);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(long value) {
+        return bytes(String.valueOf(value));
+    }
+
+    // 현재 모드의 저장 형식으로 변환
+    private byte[] storedValue(String token) {
+        if (jwtProperties.getRefreshStorageMode() == JwtProperties.RefreshStorageMode.DIGEST) {
+            return TokenDigestUtil.sha256(token);
+        }
+        return bytes(token);
+    }
+
+    // PLAIN 모드는 다이제스트 저장값을 허용하지 않으므로 원문을 한 번 더 전달
+    private byte[] expectedDigest(String token) {
+        if (jwtProperties.getRefreshStorageMode() == JwtProperties.RefreshStorageMode.PLAIN) {
+            return bytes(token);
+        }
+        return TokenDigestUtil.sha256(token);
     }
 }
@@ -1,36 +1,94 @@
 package ready_to_marry.authservice.token.repository;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
+import ready_to_marry.authservice.common.config.RedisEncodingProperties;
+import ready_to_marry.authservice.common.redis.RedisTakeOperations;
+import ready_to_marry.authservice.common.util.CompactRedisCodec;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Redis 기반 이메일 인증 Token 저장소
+ *
+ * - LEGACY 형식: "verify_token:<token 문자열>" → accountId 문자열
+ * - COMPACT 형식: "vt:" + token 16바이트 → accountId 16바이트
+ * - auth.redis.encodingMode에 따라 저장 형식을 선택하고, DUAL/COMPACT 모드는 저장 형식 → 다른 형식 순으로 조회
+ * - 조회는 GETDEL(take)로 1회 소비
+ */
 @Repository
-@RequiredArgsConstructor
 public class RedisVerificationTokenRepository implements VerificationTokenRepository {
     private static final String KEY_PREFIX = "verify_token:";
+    private static final String COMPACT_KEY_PREFIX = "vt:";
 
-    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<byte[], byte[]> redisTemplate;
+    private final RedisEncodingProperties encodingProperties;
+    private final RedisTakeOperations takeOperations;
+
+    public RedisVerificationTokenRepository(RedisTemplate<byte[], byte[]> binaryRedisTemplate,
+                                            RedisEncodingProperties encodingProperties,
+                                            RedisTakeOperations takeOperations) {
+        this.redisTemplate = binaryRedisTemplate;
+        this.encodingProperties = encodingProperties;
+        this.takeOperations = takeOperations;
+    }
 
     @Override
     public void save(String token, UUID accountId, Duration ttl) {
-        String key = KEY_PREFIX + token;
-        redisTemplate.opsForValue().set(key, accountId.toString(), ttl);
+        UUID tokenId = parseUuid(token);
+        if (tokenId != null && mode() == RedisEncodingProperties.EncodingMode.COMPACT) {
+            redisTemplate.opsForValue().set(compactKey(tokenId), CompactRedisCodec.toBytes(accountId), ttl);
+            return;
+        }
+        redisTemplate.opsForValue().set(legacyKey(token), accountId.toString().getBytes(StandardCharsets.UTF_8), ttl);
     }
 
     @Override
-    public Optional<UUID> find(String token) {
-        String key = KEY_PREFIX + token;
-        String v = redisTemplate.opsForValue().get(key);
-        return (v != null) ? Optional.of(UUID.fromString(v)) : Optional.empty();
+    public Optional<UUID> take(String token) {
+        UUID tokenId = parseUuid(token);
+        if (tokenId == null || mode() == RedisEncodingProperties.EncodingMode.LEGACY) {
+            return takeLegacy(token);
+        }
+
+        // 현재 모드가 저장하는 형식을 먼저 소비 (DUAL: 기존 형식, COMPACT: compact) → 정상 흐름은 1회 왕복
+        // 다른 형식은 모드 전환 전에 저장된 토큰이 남아 있을 때만 조회됨
+        if (mode() == RedisEncodingProperties.EncodingMode.DUAL) {
+            return takeLegacy(token).or(() -> takeCompact(tokenId));
+        }
+        return takeCompact(tokenId).or(() -> takeLegacy(token));
     }
 
-    @Override
-    public void delete(String token) {
-        String key = KEY_PREFIX + token;
-        redisTemplate.delete(key);
+    private Optional<UUID> takeLegacy(String token) {
+        byte[] v = takeOperations.take(legacyKey(token));
+        return (v != null) ? Optional.of(UUID.fromString(new String(v, StandardCharsets.UTF_8))) : Optional.empty();
+    }
+
+    private Optional<UUID> takeCompact(UUID tokenId) {
+        byte[] v = takeOperations.take(compactKey(tokenId));
+        return (v != null) ? Optional.of(CompactRedisCodec.toUuid(v)) : Optional.empty();
+    }
+
+    private RedisEncodingProperties.EncodingMode mode() {
+        return encodingProperties.getEncodingMode();
+    }
+
+    private static byte[] legacyKey(String token) {
+        return CompactRedisCodec.stringKey(KEY_PREFIX, token);
+    }
+
+    private static byte[] compactKey(UUID tokenId) {
+        return CompactRedisCodec.uuidKey(COMPACT_KEY_PREFIX, tokenId);
+    }
+
+    // 외부 입력 토큰이 UUID 형식이 아니면 compact 키를 만들 수 없으므로 기존 형식만 사용
+    private static UUID parseUuid(String token) {
+        try {
+            return UUID.fromString(token);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
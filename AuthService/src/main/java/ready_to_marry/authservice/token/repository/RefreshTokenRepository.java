@@ -1,32 +1,59 @@
 package ready_to_marry.authservice.token.repository;
 
 import java.time.Duration;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Refresh Token 저장소 추상화 인터페이스
+ *
+ * - 계정별로 여러 세션(기기)을 sid로 구분하여 저장
  */
 public interface RefreshTokenRepository {
     /**
-     * 지정된 계정 ID에 대해 리프레시 토큰을 저장하고 TTL을 설정
+     * 지정된 계정에 새 세션의 리프레시 토큰을 저장하고 TTL을 설정 (최대 세션 수 초과 시 가장 오래된 세션 제거)
      *
-     * @param accountId 토큰을 저장할 계정의 고유 ID
-     * @param token     발급된 리프레시 토큰 문자열
-     * @param ttl       토큰 만료까지의 기간(Duration)
+     * @param accountId   토큰을 저장할 계정의 고유 ID
+     * @param sessionId   세션 ID (refresh 토큰의 sid 클레임)
+     * @param token       발급된 리프레시 토큰 문자열 (저장 형식은 구현체 설정에 따름)
+     * @param ttl         토큰 만료까지의 기간(Duration)
+     * @param maxSessions 계정당 최대 세션 수
+     * @return 초과로 제거된 세션 수
      */
-    void save(UUID accountId, String token, Duration ttl);
+    int saveSession(UUID accountId, String sessionId, String token, Duration ttl, int maxSessions);
 
     /**
-     * 지정된 계정 ID에 저장된 리프레시 토큰을 조회
+     * 세션에 저장된 토큰이 expectedToken과 같을 때만 newToken으로 교체하고 TTL을 재설정 (원자적 CAS, 1회 왕복)
+     * 다르면 이미 교체된 토큰의 재사용으로 보고 해당 세션 전체를 폐기
+     * 마지막 교체가 같은 rotationId로 이루어졌으면 재시도로 보고 ROTATED 반환
      *
-     * @param accountId 조회할 refresh 토큰 계정의 고유 ID
-     * @return 저장된 refresh 토큰 문자열 (없으면 Optional.empty())
+     * @param accountId     토큰을 교체할 계정의 고유 ID
+     * @param sessionId     세션 ID (refresh 토큰의 sid 클레임)
+     * @param expectedToken 클라이언트가 제시한 기존 리프레시 토큰
+     * @param newToken      새로 발급된 리프레시 토큰
+     * @param rotationId    교체 요청마다 새로 만든 nonce (재시도 시 같은 값)
+     * @param ttl           새 토큰 만료까지의 기간(Duration)
+     * @return 교체 결과 (ROTATED / NOT_FOUND / REUSED)
      */
-    Optional<String> find(UUID accountId);
+    RefreshTokenRotationResult rotateSession(UUID accountId, String sessionId, String expectedToken, String newToken, String rotationId, Duration ttl);
 
     /**
-     * 지정된 계정 ID에 대한 리프레시 토큰을 삭제
+     * sid 없는 기존 단일 키 토큰이 expectedToken과 같으면 삭제하고 newToken을 새 세션으로 저장 (원자적, 1회 왕복)
+     * 새 세션이 같은 rotationId로 이미 저장되어 있으면 재시도로 보고 ROTATED 반환
+     *
+     * @param accountId     토큰을 이전할 계정의 고유 ID
+     * @param expectedToken 클라이언트가 제시한 기존 리프레시 토큰
+     * @param sessionId     새 세션 ID
+     * @param newToken      새로 발급된 리프레시 토큰
+     * @param rotationId    교체 요청마다 새로 만든 nonce (재시도 시 같은 값)
+     * @param ttl           새 토큰 만료까지의 기간(Duration)
+     * @param maxSessions   계정당 최대 세션 수
+     * @return 이전 결과 (ROTATED / NOT_FOUND / MISMATCH)
+     */
+    RefreshTokenRotationResult migrateLegacy(UUID accountId, String expectedToken, String sessionId, String newToken,
+                                             String rotationId, Duration ttl, int maxSessions);
+
+    /**
+     * 지정된 계정 ID의 모든 세션 리프레시 토큰을 삭제
      *
      * @param accountId 삭제할 refresh 토큰 계정의 고유 ID
      */
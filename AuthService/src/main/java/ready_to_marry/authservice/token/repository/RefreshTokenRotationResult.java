@@ -0,0 +1,18 @@
+package ready_to_marry.authservice.token.repository;
+
+/**
+ * Refresh Token 교체(CAS) 결과
+ */
+public enum RefreshTokenRotationResult {
+    // 저장된 토큰이 일치하여 새 토큰으로 교체됨 (이미 교체된 재시도 포함)
+    ROTATED,
+
+    // 저장된 토큰 없음 (만료 또는 로그아웃)
+    NOT_FOUND,
+
+    // 저장된 토큰이 제시된 토큰과 다름 (sid 없는 기존 토큰)
+    MISMATCH,
+
+    // 세션의 이전 토큰이 재사용됨 (탈취 의심, 해당 세션 전체 폐기됨)
+    REUSED
+}
@@ -18,17 +18,10 @@ public interface VerificationTokenRepository {
     void save(String token, UUID accountId, Duration ttl);
 
     /**
-     * 토큰으로 저장된 accountId 조회
+     * 토큰으로 저장된 accountId를 조회와 동시에 삭제 (원자적, 1회 왕복)
      *
      * @param token 인증 토큰 문자열
-     * @return accountId (없으면 Optional.empty)
+     * @return accountId (없거나 이미 소비되었으면 Optional.empty)
      */
-    Optional<UUID> find(String token);
-
-    /**
-     * 토큰 삭제
-     *
-     * @param token 인증 토큰 문자열
-     */
-    void delete(String token);
+    Optional<UUID> take(String token);
 }
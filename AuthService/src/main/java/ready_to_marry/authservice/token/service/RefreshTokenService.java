@@ -1,30 +1,51 @@
 package ready_to_marry.authservice.token.service;
 
-import java.util.Optional;
+import ready_to_marry.authservice.token.repository.RefreshTokenRotationResult;
+
 import java.util.UUID;
 
 /**
- * Refresh Token 저장·조회·삭제 기능 제공
+ * Refresh Token 저장·교체·삭제 기능 제공
+ *
+ * - 계정별로 여러 세션(기기)을 sid로 구분하여 관리
  */
 public interface RefreshTokenService {
     /**
-     * 계정ID에 해당하는 리프레시 토큰을 저장
+     * 새 세션의 리프레시 토큰을 저장 (계정당 최대 세션 수 초과 시 가장 오래된 세션 제거)
      *
      * @param accountId 계정 고유 ID
+     * @param sessionId 세션 ID (refresh 토큰의 sid 클레임)
      * @param token     발급된 refresh 토큰 문자열
      */
-    void save(UUID accountId, String token);
+    void save(UUID accountId, String sessionId, String token);
+
+    /**
+     * 세션에 저장된 리프레시 토큰이 제시된 토큰과 같을 때만 새 토큰으로 원자적으로 교체
+     * 이전 토큰이 재사용되면 해당 세션 전체를 폐기
+     *
+     * @param accountId     계정 고유 ID
+     * @param sessionId     세션 ID (refresh 토큰의 sid 클레임)
+     * @param expectedToken 클라이언트가 제시한 기존 refresh 토큰 문자열
+     * @param newToken      새로 발급된 refresh 토큰 문자열
+     * @param rotationId    교체 요청 nonce (재시도 멱등성 판단용)
+     * @return 교체 결과 (ROTATED / NOT_FOUND / REUSED)
+     */
+    RefreshTokenRotationResult rotate(UUID accountId, String sessionId, String expectedToken, String newToken, String rotationId);
 
     /**
-     * 계정ID에 해당하는 리프레시 토큰을 조회
+     * sid 없는 기존 리프레시 토큰을 비교 후 소비하고 새 세션으로 저장 (세션 모델로 이전, 원자적)
      *
-     * @param accountId 조회할 refresh 토큰 계정의 고유 ID
-     * @return 저장된 refresh 토큰 문자열 (없으면 Optional.empty())
+     * @param accountId     계정 고유 ID
+     * @param expectedToken 클라이언트가 제시한 기존 refresh 토큰 문자열
+     * @param sessionId     새 세션 ID
+     * @param newToken      새로 발급된 refresh 토큰 문자열
+     * @param rotationId    교체 요청 nonce (재시도 멱등성 판단용)
+     * @return 이전 결과 (ROTATED / NOT_FOUND / MISMATCH)
      */
-    Optional<String> findRefreshToken(UUID accountId);
+    RefreshTokenRotationResult migrateLegacy(UUID accountId, String expectedToken, String sessionId, String newToken, String rotationId);
 
     /**
-     * 계정ID에 해당하는 리프레시 토큰을 삭제
+     * 계정ID에 해당하는 모든 세션의 리프레시 토큰을 삭제
      *
      * @param accountId 삭제할 refresh 토큰 계정의 고유 ID
      */
@@ -1,17 +1,19 @@
 package ready_to_marry.authservice.token.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import ready_to_marry.authservice.common.jwt.JwtProperties;
 import ready_to_marry.authservice.token.repository.RefreshTokenRepository;
+import ready_to_marry.authservice.token.repository.RefreshTokenRotationResult;
 
 import java.time.Duration;
-import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenServiceImpl implements RefreshTokenService {
@@ -20,24 +22,50 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 
     @Override
     // redis 저장을 2회 재시도(backoff 100ms) 후에도 실패하면 DataAccessException을 던짐
+    // 같은 sid/토큰으로 다시 저장하므로 재시도해도 안전
     @Retryable(
             include = DataAccessException.class,
             maxAttempts = 3,
             backoff = @Backoff(delay = 100)
     )
-    public void save(UUID accountId, String token) {
-        refreshTokenRepository.save(accountId, token, Duration.ofSeconds(jwtProperties.getRefreshExpiry()));
+    public void save(UUID accountId, String sessionId, String token) {
+        int evicted = refreshTokenRepository.saveSession(
+                accountId, sessionId, token,
+                Duration.ofSeconds(jwtProperties.getRefreshExpiry()),
+                jwtProperties.getRefreshMaxSessions()
+        );
+
+        if (evicted > 0) {
+            log.info("Oldest refresh sessions evicted: identifierType=accountId, identifierValue={}, evicted={}", accountId, evicted);
+        }
+    }
+
+    @Override
+    // redis 교체(CAS)를 2회 재시도(backoff 100ms) 후에도 실패하면 DataAccessException을 던짐
+    // 재시도는 같은 rotationId로 호출되고 스크립트가 이를 ROTATED로 반환하므로 재시도해도 안전
+    @Retryable(
+            include = DataAccessException.class,
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 100)
+    )
+    public RefreshTokenRotationResult rotate(UUID accountId, String sessionId, String expectedToken, String newToken, String rotationId) {
+        return refreshTokenRepository.rotateSession(accountId, sessionId, expectedToken, newToken, rotationId, Duration.ofSeconds(jwtProperties.getRefreshExpiry()));
     }
 
     @Override
-    // redis에 조회를 2회 재시도(backoff 100ms) 후에도 실패하면 DataAccessException을 던짐
+    // redis 이전을 2회 재시도(backoff 100ms) 후에도 실패하면 DataAccessException을 던짐
+    // 재시도는 같은 sid/rotationId로 호출되고 스크립트가 이를 ROTATED로 반환하므로 재시도해도 안전
     @Retryable(
             include = DataAccessException.class,
             maxAttempts = 3,
             backoff = @Backoff(delay = 100)
     )
-    public Optional<String> findRefreshToken(UUID accountId) {
-        return refreshTokenRepository.find(accountId);
+    public RefreshTokenRotationResult migrateLegacy(UUID accountId, String expectedToken, String sessionId, String newToken, String rotationId) {
+        return refreshTokenRepository.migrateLegacy(
+                accountId, expectedToken, sessionId, newToken, rotationId,
+                Duration.ofSeconds(jwtProperties.getRefreshExpiry()),
+                jwtProperties.getRefreshMaxSessions()
+        );
     }
 
     @Override
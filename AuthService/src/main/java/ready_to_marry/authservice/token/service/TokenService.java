@@ -1,5 +1,6 @@
 package ready_to_marry.authservice.token.service;
 
+import io.jsonwebtoken.Claims;
 import ready_to_marry.authservice.common.dto.response.JwtResponse;
 import ready_to_marry.authservice.common.exception.BusinessException;
 import ready_to_marry.authservice.common.exception.InfrastructureException;
@@ -10,24 +11,25 @@ import ready_to_marry.authservice.common.exception.InfrastructureException;
 public interface TokenService {
     /**
      * 클라이언트가 가진 refresh token 으로 새로운 토큰 쌍을 발급
-     * 1) 리프레시 토큰 서명·만료 검증은 JwtRefreshTokenFilter가 이미 담당
-     * 2) subject(accountId) 추출 및 형식 검증
-     * 3) 저장소 검증: 저장된 토큰 조회 및 비교
-     * 4) 계정 정보 조회
-     * 5) 새 Access Token 생성
-     * 6) 새 Refresh Token 생성
-     * 7) 새 Refresh Token Redis에 저장 (기존 덮어쓰기)
-     * 8) 응답 DTO
+     * 1) 리프레시 토큰 서명·만료 검증은 JwtRefreshTokenFilter가 이미 담당 (검증된 Claims 재사용)
+     * 2) subject(accountId), 세션 ID(sid) 추출 및 형식 검증
+     * 3) 계정 정보 조회
+     * 4) 새 Access Token 생성
+     * 5) 새 Refresh Token 생성 (같은 세션 유지)
+     * 6) 저장소 검증 + 교체: 세션에 저장된 토큰과 비교 후 새 Refresh Token으로 원자적 교체 (Lua CAS)
+     *    - 이전 토큰 재사용 시 해당 세션 전체 폐기
+     *    - sid 없는 기존 토큰은 단일 키에서 소비 후 새 세션으로 이전
+     * 7) 응답 DTO
      *
-     * @param token 리프레시 토큰
+     * @param token          리프레시 토큰
+     * @param verifiedClaims 필터에서 검증된 Claims (없으면 토큰을 직접 파싱)
      * @return 새로 발급된 JWT 토큰 정보
      * @throws BusinessException        REFRESH_TOKEN_INVALID
      * @throws BusinessException        REFRESH_TOKEN_NOT_FOUND
      * @throws BusinessException        REFRESH_TOKEN_MISMATCH
      * @throws BusinessException        ACCOUNT_NOT_FOUND
      * @throws InfrastructureException  DB_RETRIEVE_FAILURE
-     * @throws InfrastructureException  REFRESH_TOKEN_RETRIEVE_FAILURE
      * @throws InfrastructureException  REFRESH_TOKEN_SAVE_FAILURE
      */
-    JwtResponse refresh(String token);
+    JwtResponse refresh(String token, Claims verifiedClaims);
 }
\ No newline at end of file
@@ -1,12 +1,12 @@
 package ready_to_marry.authservice.token.service;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import ready_to_marry.authservice.account.entity.AuthAccount;
+import ready_to_marry.authservice.account.cache.AccountSnapshot;
 import ready_to_marry.authservice.account.service.AccountService;
 import ready_to_marry.authservice.common.dto.response.JwtResponse;
 import ready_to_marry.authservice.common.exception.BusinessException;
@@ -16,6 +16,7 @@ import ready_to_marry.authservice.common.jwt.JwtClaims;
 import ready_to_marry.authservice.common.jwt.JwtProperties;
 import ready_to_marry.authservice.common.jwt.JwtTokenProvider;
 import ready_to_marry.authservice.common.util.MaskingUtil;
+import ready_to_marry.authservice.token.repository.RefreshTokenRotationResult;
 
 import java.util.UUID;
 
@@ -29,43 +30,33 @@ public class TokenServiceImpl implements TokenService {
     private final AccountService accountService;
 
     @Override
-    @Transactional
-    public JwtResponse refresh(String token) {
-        // 1) 리프레시 토큰 서명·만료 검증은 JwtRefreshTokenFilter가 이미 담당
+    public JwtResponse refresh(String token, Claims verifiedClaims) {
+        // 1) 리프레시 토큰 서명·만료 검증은 JwtRefreshTokenFilter가 이미 담당 (검증된 Claims 재사용)
 
-        // 2) subject(accountId) 추출 및 형식 검증
+        // 2) subject(accountId), 세션 ID(sid) 추출 및 형식 검증
         UUID accountId;
+        String sessionId;
         try {
+            // 필터를 거치지 않은 호출만 직접 파싱
+            Claims claims = verifiedClaims != null
+                    ? verifiedClaims
+                    : jwtTokenProvider.parseClaims(token).getPayload();
+
             // subject 추출 + UUID 변환
-            accountId = UUID.fromString(jwtTokenProvider.getSubject(token));
+            accountId = UUID.fromString(claims.getSubject());
+
+            // sid 없는 토큰은 세션 모델 도입 전 발급된 기존 토큰
+            sessionId = claims.get(JwtTokenProvider.SESSION_ID_CLAIM, String.class);
         } catch (JwtException | IllegalArgumentException ex) {
             // 서명·만료 검증은 이미 필터에서, 여기서는 subject가 없거나 UUID 형식이 아닐 때
             log.error("{}: identifierType=token, identifierValue={}", ErrorCode.REFRESH_TOKEN_INVALID.getMessage(), MaskingUtil.maskToken(token));
             throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
         }
 
-        // 3) 저장소 검증: 저장된 토큰 조회 및 비교
-        String savedRefreshToken;
-        try {
-            savedRefreshToken = refreshTokenService.findRefreshToken(accountId)
-                    .orElseThrow(() -> {
-                        log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.REFRESH_TOKEN_NOT_FOUND.getMessage(), accountId);
-                        return new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
-                    });
-        } catch (DataAccessException ex) {
-            log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.REFRESH_TOKEN_RETRIEVE_FAILURE.getMessage(), accountId, ex);
-            throw new InfrastructureException(ErrorCode.REFRESH_TOKEN_RETRIEVE_FAILURE, ex);
-        }
-
-        if (!savedRefreshToken.equals(token)) {
-            log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.REFRESH_TOKEN_MISMATCH.getMessage(), accountId);
-            throw new BusinessException(ErrorCode.REFRESH_TOKEN_MISMATCH);
-        }
-
-        // 4) 계정 정보 조회
-        AuthAccount account;
+        // 3) 계정 정보 조회 (로컬 캐시 우선)
+        AccountSnapshot account;
         try {
-            account = accountService.findById(accountId)
+            account = accountService.findSnapshotById(accountId)
                     .orElseThrow(() -> {
                         log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.ACCOUNT_NOT_FOUND.getMessage(), accountId);
                         return new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
@@ -75,7 +66,7 @@ public class TokenServiceImpl implements TokenService {
             throw new InfrastructureException(ErrorCode.DB_RETRIEVE_FAILURE, ex);
         }
 
-        // 5) 새 Access Token 생성
+        // 4) 새 Access Token 생성
         JwtClaims.JwtClaimsBuilder claimsBuilder = JwtClaims.builder()
                 .role(account.getRole().name());
 
@@ -98,20 +89,49 @@ public class TokenServiceImpl implements TokenService {
                 claimsBuilder.build()
         );
 
-        // 6) 새 Refresh Token 생성
+        // 5) 새 Refresh Token 생성 (같은 세션 유지, 기존 토큰은 새 세션 부여)
+        boolean legacyToken = sessionId == null;
+        String newSessionId = legacyToken ? UUID.randomUUID().toString() : sessionId;
         String newRefreshToken = jwtTokenProvider.generateRefreshToken(
-                accountId.toString()
+                accountId.toString(),
+                newSessionId
         );
 
-        // 7) 새 Refresh Token Redis에 저장 (기존 덮어쓰기)
+        // 6) 저장소 검증 + 교체: 저장된 토큰이 제시된 토큰과 같을 때만 새 Refresh Token으로 원자적 교체 (Redis 1회 왕복)
+        //    기존 토큰은 단일 키 소비와 새 세션 저장을 같은 스크립트에서 처리
+        //    교체 요청 nonce: 재시도 시 같은 값으로 전달되어 이미 교체된 경우를 재사용과 구분
+        String rotationId = UUID.randomUUID().toString();
+        RefreshTokenRotationResult rotation;
         try {
-            refreshTokenService.save(accountId, newRefreshToken);
+            if (legacyToken) {
+                rotation = refreshTokenService.migrateLegacy(accountId, token, newSessionId, newRefreshToken, rotationId);
+            } else {
+                rotation = refreshTokenService.rotate(accountId, sessionId, token, newRefreshToken, rotationId);
+            }
         }  catch (DataAccessException ex) {
             log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.REFRESH_TOKEN_SAVE_FAILURE.getMessage(), accountId, ex);
             throw new InfrastructureException(ErrorCode.REFRESH_TOKEN_SAVE_FAILURE, ex);
         }
 
-        // 8) 응답 DTO
+        switch (rotation) {
+            case NOT_FOUND:
+                log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.REFRESH_TOKEN_NOT_FOUND.getMessage(), accountId);
+                throw new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+
+            case MISMATCH:
+                log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.REFRESH_TOKEN_MISMATCH.getMessage(), accountId);
+                throw new BusinessException(ErrorCode.REFRESH_TOKEN_MISMATCH);
+
+            case REUSED:
+                // 이미 교체된 토큰 재사용 → 탈취 의심으로 해당 세션 전체 폐기됨
+                log.error("{}: identifierType=accountId, identifierValue={}, sessionRevoked={}", ErrorCode.REFRESH_TOKEN_MISMATCH.getMessage(), accountId, sessionId);
+                throw new BusinessException(ErrorCode.REFRESH_TOKEN_MISMATCH);
+
+            default:
+                break;
+        }
+
+        // 7) 응답 DTO
         long expiresIn = jwtProperties.getAccessExpiry(); // 초 단위 만료 시간
 
         return JwtResponse.builder()
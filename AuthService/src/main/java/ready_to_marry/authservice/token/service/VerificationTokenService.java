@@ -4,7 +4,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 /**
- * 이메일 인증 Token 저장·조회·삭제 기능 제공
+ * 이메일 인증 Token 저장·소비 기능 제공
  */
 public interface VerificationTokenService {
     /**
@@ -16,17 +16,10 @@ public interface VerificationTokenService {
     void save(String token, UUID accountId);
 
     /**
-     * 토큰으로부터 연관된 accountId 조회
+     * 토큰으로부터 연관된 accountId를 조회하면서 토큰 삭제 (원자적, 1회 소비)
      *
      * @param token 인증 토큰 문자열
-     * @return accountId (없으면 Optional.empty)
+     * @return accountId (없거나 이미 소비되었으면 Optional.empty)
      */
-    Optional<UUID> findAccountId(String token);
-
-    /**
-     * 인증 토큰 삭제
-     *
-     * @param token 인증 토큰 문자열
-     */
-    void delete(String token);
+    Optional<UUID> take(String token);
 }
@@ -2,6 +2,7 @@ package ready_to_marry.authservice.token.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
@@ -30,24 +31,14 @@ public class VerificationTokenServiceImpl implements VerificationTokenService {
     }
 
     @Override
-    // redis에 조회를 2회 재시도(backoff 100ms) 후에도 실패하면 DataAccessException을 던짐
+    // 조회+삭제(GETDEL)는 재실행 시 이미 소비된 값을 찾지 못하므로,
+    // 명령이 전달되지 않은 연결 실패(RedisConnectionFailureException)만 2회 재시도(backoff 100ms)
     @Retryable(
-            include = DataAccessException.class,
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 100)
-    )
-    public Optional<UUID> findAccountId(String token) {
-        return verificationTokenRepository.find(token);
-    }
-
-    @Override
-    // redis에 삭제 2회 재시도(backoff 100ms) 후에도 실패하면 DataAccessException을 던짐
-    @Retryable(
-            include = DataAccessException.class,
+            include = RedisConnectionFailureException.class,
             maxAttempts = 3,
             backoff = @Backoff(delay = 100)
     )
-    public void delete(String token) {
-        verificationTokenRepository.delete(token);
+    public Optional<UUID> take(String token) {
+        return verificationTokenRepository.take(token);
     }
 }
@@ -6,6 +6,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ready_to_marry.authservice.account.entity.AuthAccount;
+import ready_to_marry.authservice.account.repository.LoginAccount;
 import ready_to_marry.authservice.account.service.AccountService;
 import ready_to_marry.authservice.common.dto.response.JwtResponse;
 import ready_to_marry.authservice.common.enums.AccountStatus;
@@ -23,6 +24,8 @@ import ready_to_marry.authservice.token.service.RefreshTokenService;
 import ready_to_marry.authservice.user.dto.request.UserProfileCompletionRequest;
 import ready_to_marry.authservice.user.dto.request.UserProfileRequest;
 
+import java.util.UUID;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -37,9 +40,9 @@ public class UserAuthServiceImpl implements UserAuthService {
     @Transactional
     public SocialLoginResult socialLogin(String provider, String socialId) {
         // 1) 소셜 ID로 계정 조회 또는 신규 생성
-        AuthAccount account;
+        LoginAccount account;
         try {
-            account = accountService.findByLoginId(socialId)
+            account = accountService.findLoginAccount(socialId)
                     .orElseGet(() -> {
                         try {
                             AuthMethod method = AuthMethod.valueOf(provider.toUpperCase());
@@ -49,7 +52,7 @@ public class UserAuthServiceImpl implements UserAuthService {
                                     .role(Role.USER)
                                     .status(AccountStatus.WAITING_PROFILE_COMPLETION)
                                     .build();
-                            return accountService.save(newAccount);
+                            return LoginAccount.from(accountService.save(newAccount));
                         } catch (IllegalArgumentException ex) {
                             log.error("{}: identifierType=provider, identifierValue={}", ErrorCode.PROVIDER_NOT_SUPPORTED.getMessage(), provider);
                             throw new BusinessException(ErrorCode.PROVIDER_NOT_SUPPORTED);
@@ -76,14 +79,16 @@ public class UserAuthServiceImpl implements UserAuthService {
             );
 
             // 2-2) JWT 토큰 발급 (Refresh Token 생성)
+            String sessionId = UUID.randomUUID().toString();
             String refreshToken = jwtTokenProvider.generateRefreshToken(
-                    account.getAccountId().toString()
+                    account.getAccountId().toString(),
+                    sessionId
             );
 
 
             // 2-3) Refresh Token Redis에 저장
             try {
-                refreshTokenService.save(account.getAccountId(), refreshToken);
+                refreshTokenService.save(account.getAccountId(), sessionId, refreshToken);
             }  catch (DataAccessException ex) {
                 log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.REFRESH_TOKEN_SAVE_FAILURE.getMessage(), account.getAccountId(), ex);
                 throw new InfrastructureException(ErrorCode.REFRESH_TOKEN_SAVE_FAILURE, ex);
@@ -97,7 +102,6 @@ public class UserAuthServiceImpl implements UserAuthService {
     }
 
     @Override
-    @Transactional
     public JwtResponse completeUserProfile(UserProfileCompletionRequest request) {
         // 1) accountId 유효성 및 상태 확인
         AuthAccount account;
@@ -125,13 +129,15 @@ public class UserAuthServiceImpl implements UserAuthService {
                 .build();
 
         // 2)-2 USER SERVICE에 요청 (INTERNAL API) → user_profile(userDB)에 저장
+        //      응답 토큰에 userId가 필요하므로 동기 호출하되, 트랜잭션 밖에서 호출하여 외부 왕복 동안 DB 커넥션을 잡지 않음
+        //      (accountId를 Idempotency-Key로 사용하여 클라이언트 재시도 시 중복 생성 방지)
         // TODO: INTERNAL API 호출 로직 추가 O
         // TODO: INTERNAL API 호출 에러 시 처리 로직 추가 O
         // FIXME: INTERNAL API 호출 결과에서 가져오는 userId로 변경 (임시 코드) O
         System.out.println("추가 요청 시작");
         Long userId;
         try {
-            userId = userClient.savePartnerProfile(internalRequest);
+            userId = userClient.savePartnerProfile(internalRequest, account.getAccountId().toString());
         } catch (Exception e) {
             throw new InfrastructureException(ErrorCode.EXTERNAL_API_FAILURE, e);
         }
@@ -148,22 +154,24 @@ public class UserAuthServiceImpl implements UserAuthService {
         // 4) JWT 토큰 발급 (Access Token 생성)
         String accessToken = jwtTokenProvider.generateAccessToken(
                 account.getAccountId().toString(),
-                // role, userId 설정
+                // role, userId 설정 (트랜잭션 밖에서 조회한 account는 준영속이라 3)의 변경이 반영되지 않으므로 USER SERVICE가 발급한 userId 사용)
                 JwtClaims.builder()
                         .role(account.getRole().name())
-                        .userId(account.getUserId())
+                        .userId(userId)
                         .build()
         );
 
         // 5) JWT 토큰 발급 (Refresh Token 생성)
+        String sessionId = UUID.randomUUID().toString();
         String refreshToken = jwtTokenProvider.generateRefreshToken(
-                account.getAccountId().toString()
+                account.getAccountId().toString(),
+                sessionId
         );
 
 
         // 6) Refresh Token Redis에 저장
         try {
-            refreshTokenService.save(account.getAccountId(), refreshToken);
+            refreshTokenService.save(account.getAccountId(), sessionId, refreshToken);
         }  catch (DataAccessException ex) {
             log.error("{}: identifierType=accountId, identifierValue={}", ErrorCode.REFRESH_TOKEN_SAVE_FAILURE.getMessage(), account.getAccountId(), ex);
             throw new InfrastructureException(ErrorCode.REFRESH_TOKEN_SAVE_FAILURE, ex);
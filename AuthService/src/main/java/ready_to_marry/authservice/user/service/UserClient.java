@@ -5,6 +5,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import ready_to_marry.authservice.common.config.WebClientConfig;
 import ready_to_marry.authservice.common.dto.response.ApiResponse;
 import ready_to_marry.authservice.common.exception.ErrorCode;
 import ready_to_marry.authservice.common.exception.InfrastructureException;
@@ -18,12 +19,24 @@ public class UserClient {
 
     private static final String BASE_URL = "http://user-service";
 
-    public Long savePartnerProfile(UserProfileRequest requestDto) {
+    /**
+     * 사용자 프로필 저장 (INTERNAL API)
+     *
+     * @param requestDto     저장할 프로필
+     * @param idempotencyKey 재시도 시 중복 생성 방지 키 (null이면 헤더 생략)
+     * @return 생성된 userId
+     */
+    public Long savePartnerProfile(UserProfileRequest requestDto, String idempotencyKey) {
         System.out.println(requestDto);
         System.out.println(BASE_URL + "/internal/user-profiles");
         return webClientBuilder.build()
                 .post()
                 .uri(BASE_URL + "/internal/user-profiles")
+                .headers(headers -> {
+                    if (idempotencyKey != null) {
+                        headers.set(WebClientConfig.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+                    }
+                })
                 .bodyValue(requestDto)
                 .retrieve()
                 .onStatus(status -> status.isError(), response ->
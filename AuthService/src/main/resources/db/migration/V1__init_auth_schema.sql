@@ -0,0 +1,36 @@
+-- auth_db 초기 스키마 (기존 Hibernate ddl-auto=update로 생성된 구조와 동일)
+-- 기존 DB는 spring.flyway.baseline-on-migrate로 이 버전을 기준선으로 등록하고 건너뜀
+
+create table if not exists auth_account (
+    account_id  uuid                        not null,
+    auth_method varchar(20)                 not null,
+    login_id    varchar(255)                not null,
+    password    varchar(255),
+    role        varchar(20)                 not null,
+    admin_role  varchar(20),
+    user_id     bigint,
+    partner_id  bigint,
+    admin_id    bigint,
+    status      varchar(30)                 not null,
+    created_at  timestamp(6) with time zone not null,
+    constraint pk_auth_account primary key (account_id),
+    constraint uk_auth_account_login_id unique (login_id)
+);
+
+create table if not exists withdrawal_history (
+    withdrawal_history_id bigint generated by default as identity,
+    account_id            uuid                        not null,
+    auth_method           varchar(20)                 not null,
+    login_id              varchar(255)                not null,
+    role                  varchar(20)                 not null,
+    admin_role            varchar(20),
+    user_id               bigint,
+    partner_id            bigint,
+    admin_id              bigint,
+    profile_snapshot      jsonb                       not null,
+    reason                varchar(100),
+    deleted_by            varchar(20)                 not null,
+    joined_at             timestamp(6) with time zone not null,
+    withdrawn_at          timestamp(6) with time zone not null,
+    constraint pk_withdrawal_history primary key (withdrawal_history_id)
+);
@@ -0,0 +1,5 @@
+-- 비밀번호 컬럼 확장
+
+-- ddl-auto=update로 생성된 기존 DB는 password가 varchar(100)일 수 있음 (Argon2 해시는 100자 초과)
+-- varchar 길이 확장은 테이블 재작성 없이 카탈로그만 변경
+alter table auth_account alter column password type varchar(255);
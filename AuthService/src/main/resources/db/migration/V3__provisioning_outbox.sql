@@ -0,0 +1,22 @@
+-- 가입 시 외부 서비스 프로필 생성 요청 outbox (ProvisioningRelay가 전달 후 삭제)
+-- 계정 FK는 두지 않음: 전달 중 계정이 삭제되면 릴레이가 생성된 프로필을 정리
+
+create table if not exists provisioning_outbox (
+    outbox_id       bigint generated by default as identity,
+    account_id      uuid                        not null,
+    type            varchar(40)                 not null,
+    payload         jsonb                       not null,
+    idempotency_key uuid                        not null,
+    status          varchar(20)                 not null,
+    attempts        integer                     not null default 0,
+    next_attempt_at timestamp(6) with time zone not null,
+    last_error      varchar(500),
+    created_at      timestamp(6) with time zone not null,
+    constraint pk_provisioning_outbox primary key (outbox_id),
+    constraint uk_provisioning_outbox_idempotency_key unique (idempotency_key)
+);
+
+-- 릴레이 선점 (PENDING 행만 포함하는 부분 인덱스)
+create index if not exists idx_provisioning_outbox_pending
+    on provisioning_outbox (next_attempt_at, outbox_id)
+    where status = 'PENDING';
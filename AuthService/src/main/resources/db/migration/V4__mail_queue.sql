@@ -0,0 +1,19 @@
+-- 파트너 안내 메일 발송 큐 (MailQueueWorker가 발송 후 삭제, 최대 재시도 초과 시 FAILED로 보관)
+
+create table if not exists mail_queue (
+    mail_id         bigint generated by default as identity,
+    mail_type       varchar(40)                 not null,
+    recipient       varchar(255)                not null,
+    variables       jsonb                       not null,
+    status          varchar(20)                 not null,
+    attempts        integer                     not null default 0,
+    next_attempt_at timestamp(6) with time zone not null,
+    last_error      varchar(500),
+    created_at      timestamp(6) with time zone not null,
+    constraint pk_mail_queue primary key (mail_id)
+);
+
+-- 워커 선점 (PENDING 행만 포함하는 부분 인덱스)
+create index if not exists idx_mail_queue_pending
+    on mail_queue (next_attempt_at, mail_id)
+    where status = 'PENDING';
@@ -0,0 +1,18 @@
+-- 조회 핫패스 인덱스
+-- 운영 중인 테이블에 쓰기 잠금 없이 생성하도록 concurrently 사용 (트랜잭션 밖 실행: 같은 이름의 .conf 참고)
+-- 생성이 중단되면 INVALID 인덱스가 남아 if not exists로 건너뛰므로, 해당 인덱스를 drop 후 다시 실행
+
+-- role/status별 created_at 정렬 목록 (승인 대기 파트너 offset·커서 페이지네이션)
+-- (created_at, account_id) keyset 비교와 정렬을 인덱스 순서로 처리하여 정렬·전체 스캔을 피함
+-- 목록은 전체 컬럼을 읽으므로 반환되는 페이지 행만큼 힙 조회가 발생 (커버링 인덱스 아님)
+create index concurrently if not exists idx_auth_account_role_status_created_id
+    on auth_account (role, status, created_at, account_id);
+
+-- 이메일 미인증 파트너 정리 배치 (해당 상태 행만 포함하는 부분 인덱스)
+create index concurrently if not exists idx_auth_account_waiting_email_created
+    on auth_account (created_at, account_id)
+    where status = 'WAITING_EMAIL_VERIFICATION';
+
+-- 계정별 탈퇴 이력 조회
+create index concurrently if not exists idx_withdrawal_history_account_id
+    on withdrawal_history (account_id);
@@ -0,0 +1,51 @@
+package ready_to_marry.authservice.common.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ready_to_marry.authservice.support.RedisContainerSupport;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisSlidingWindowLimiterTest extends RedisContainerSupport {
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private RedisSlidingWindowLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new RedisSlidingWindowLimiter(stringRedisTemplate);
+    }
+
+    @Test
+    void rejectsOnceLimitIsReached() {
+        List<String> keys = List.of("login:a");
+
+        assertThat(limiter.tryAcquire(keys, List.of(2), WINDOW)).isZero();
+        assertThat(limiter.tryAcquire(keys, List.of(2), WINDOW)).isZero();
+        assertThat(limiter.tryAcquire(keys, List.of(2), WINDOW)).isEqualTo(1);
+    }
+
+    @Test
+    void returnsIndexOfExceededKeyAndRecordsNothing() {
+        limiter.tryAcquire(List.of("ip:1"), List.of(1), WINDOW);
+
+        assertThat(limiter.tryAcquire(List.of("login:a", "ip:1"), List.of(5, 1), WINDOW)).isEqualTo(2);
+        // 거부된 시도는 통과한 키에도 기록되지 않음
+        assertThat(stringRedisTemplate.opsForZSet().size("login:a")).isZero();
+    }
+
+    @Test
+    void attemptsExpireAfterWindow() throws InterruptedException {
+        Duration window = Duration.ofMillis(100);
+        List<String> keys = List.of("login:a");
+
+        assertThat(limiter.tryAcquire(keys, List.of(1), window)).isZero();
+        assertThat(limiter.tryAcquire(keys, List.of(1), window)).isEqualTo(1);
+        Thread.sleep(150);
+
+        assertThat(limiter.tryAcquire(keys, List.of(1), window)).isZero();
+    }
+}
@@ -0,0 +1,50 @@
+package ready_to_marry.authservice.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactRedisCodecTest {
+
+    @Test
+    void uuidRoundTripsThroughSixteenBytes() {
+        UUID id = UUID.randomUUID();
+
+        byte[] bytes = CompactRedisCodec.toBytes(id);
+
+        assertThat(bytes).hasSize(16);
+        assertThat(CompactRedisCodec.toUuid(bytes)).isEqualTo(id);
+    }
+
+    @Test
+    void uuidKeyIsPrefixFollowedByUuidBytes() {
+        UUID id = UUID.randomUUID();
+
+        byte[] key = CompactRedisCodec.uuidKey("vt:", id);
+
+        assertThat(key).hasSize(3 + 16);
+        assertThat(new String(Arrays.copyOfRange(key, 0, 3), StandardCharsets.US_ASCII)).isEqualTo("vt:");
+        assertThat(CompactRedisCodec.toUuid(Arrays.copyOfRange(key, 3, key.length))).isEqualTo(id);
+    }
+
+    @Test
+    void pkceVerifierRoundTripsThroughThirtyTwoBytes() {
+        byte[] raw = new byte[32];
+        new SecureRandom().nextBytes(raw);
+        String verifier = CompactRedisCodec.encodeBase64Url(raw);
+
+        assertThat(verifier).hasSize(43).doesNotContain("=", "+", "/");
+        assertThat(CompactRedisCodec.decodeBase64Url(verifier)).isEqualTo(raw);
+    }
+
+    @Test
+    void stringKeyKeepsLegacyFormat() {
+        assertThat(CompactRedisCodec.stringKey("verification_token:", "abc"))
+                .isEqualTo("verification_token:abc".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,55 @@
+package ready_to_marry.authservice.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorUtilTest {
+
+    @Test
+    void cursorRoundTripsCreatedAtAndAccountId() {
+        OffsetDateTime createdAt = OffsetDateTime.of(2025, 3, 1, 12, 30, 45, 123_456_789, ZoneOffset.UTC);
+        UUID accountId = UUID.randomUUID();
+
+        PageCursorUtil.Cursor cursor = PageCursorUtil.decode(PageCursorUtil.encode(createdAt, accountId));
+
+        assertThat(cursor.createdAt()).isEqualTo(createdAt);
+        assertThat(cursor.accountId()).isEqualTo(accountId);
+    }
+
+    @Test
+    void cursorKeepsInstantForNonUtcOffset() {
+        OffsetDateTime createdAt = OffsetDateTime.of(2025, 3, 1, 21, 30, 45, 1_000, ZoneOffset.ofHours(9));
+
+        PageCursorUtil.Cursor cursor = PageCursorUtil.decode(PageCursorUtil.encode(createdAt, UUID.randomUUID()));
+
+        assertThat(cursor.createdAt().toInstant()).isEqualTo(createdAt.toInstant());
+        assertThat(cursor.createdAt().getOffset()).isEqualTo(ZoneOffset.UTC);
+    }
+
+    @Test
+    void cursorIsUrlSafe() {
+        String cursor = PageCursorUtil.encode(OffsetDateTime.now(), UUID.randomUUID());
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void wrongLengthCursorIsRejected() {
+        String truncated = CompactRedisCodec.encodeBase64Url(new byte[27]);
+
+        assertThatThrownBy(() -> PageCursorUtil.decode(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void malformedBase64CursorIsRejected() {
+        assertThatThrownBy(() -> PageCursorUtil.decode("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
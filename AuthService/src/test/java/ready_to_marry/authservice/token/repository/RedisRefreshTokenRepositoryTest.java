@@ -0,0 +1,199 @@
+package ready_to_marry.authservice.token.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ready_to_marry.authservice.common.jwt.JwtProperties;
+import ready_to_marry.authservice.common.util.TokenDigestUtil;
+import ready_to_marry.authservice.support.RedisContainerSupport;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisRefreshTokenRepositoryTest extends RedisContainerSupport {
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final int MAX_SESSIONS = 5;
+
+    private JwtProperties jwtProperties;
+    private RedisRefreshTokenRepository repository;
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setRefreshStorageMode(JwtProperties.RefreshStorageMode.DUAL);
+        repository = new RedisRefreshTokenRepository(binaryRedisTemplate, jwtProperties);
+        accountId = UUID.randomUUID();
+    }
+
+    @Test
+    void rotateReplacesCurrentToken() {
+        repository.saveSession(accountId, "sid", "t1", TTL, MAX_SESSIONS);
+
+        assertThat(repository.rotateSession(accountId, "sid", "t1", "t2", "r1", TTL))
+                .isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat(repository.rotateSession(accountId, "sid", "t2", "t3", "r2", TTL))
+                .isEqualTo(RefreshTokenRotationResult.ROTATED);
+    }
+
+    @Test
+    void retryWithSameRotationIdIsIdempotent() {
+        repository.saveSession(accountId, "sid", "t1", TTL, MAX_SESSIONS);
+        repository.rotateSession(accountId, "sid", "t1", "t2", "r1", TTL);
+
+        assertThat(repository.rotateSession(accountId, "sid", "t1", "t2", "r1", TTL))
+                .isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat(repository.rotateSession(accountId, "sid", "t2", "t3", "r2", TTL))
+                .isEqualTo(RefreshTokenRotationResult.ROTATED);
+    }
+
+    @Test
+    void replayedTokenRevokesSessionEvenWhenNewTokenIsIdentical() {
+        // 같은 초에 발급된 HS256 토큰처럼 새 토큰 값이 이전 교체 결과와 같아도 nonce가 다르면 재사용으로 판단
+        repository.saveSession(accountId, "sid", "t1", TTL, MAX_SESSIONS);
+        repository.rotateSession(accountId, "sid", "t1", "t2", "r1", TTL);
+
+        assertThat(repository.rotateSession(accountId, "sid", "t1", "t2", "r2", TTL))
+                .isEqualTo(RefreshTokenRotationResult.REUSED);
+        assertThat(repository.rotateSession(accountId, "sid", "t2", "t3", "r3", TTL))
+                .isEqualTo(RefreshTokenRotationResult.NOT_FOUND);
+        assertThat(binaryRedisTemplate.opsForHash().size(sessionKey())).isZero();
+    }
+
+    @Test
+    void reuseRevokesOnlyThatSession() {
+        repository.saveSession(accountId, "a", "a1", TTL, MAX_SESSIONS);
+        repository.saveSession(accountId, "b", "b1", TTL, MAX_SESSIONS);
+        repository.rotateSession(accountId, "a", "a1", "a2", "r1", TTL);
+
+        assertThat(repository.rotateSession(accountId, "a", "a1", "a3", "r2", TTL))
+                .isEqualTo(RefreshTokenRotationResult.REUSED);
+        assertThat(repository.rotateSession(accountId, "b", "b1", "b2", "r3", TTL))
+                .isEqualTo(RefreshTokenRotationResult.ROTATED);
+    }
+
+    @Test
+    void overflowEvictsLeastRecentlyUsedSession() throws InterruptedException {
+        repository.saveSession(accountId, "a", "a1", TTL, 2);
+        Thread.sleep(5);
+        repository.saveSession(accountId, "b", "b1", TTL, 2);
+        Thread.sleep(5);
+        // a를 사용하여 b가 가장 오래 사용되지 않은 세션이 됨
+        repository.rotateSession(accountId, "a", "a1", "a2", "r1", TTL);
+        Thread.sleep(5);
+
+        assertThat(repository.saveSession(accountId, "c", "c1", TTL, 2)).isEqualTo(1);
+        assertThat(repository.rotateSession(accountId, "b", "b1", "b2", "r2", TTL))
+                .isEqualTo(RefreshTokenRotationResult.NOT_FOUND);
+        assertThat(repository.rotateSession(accountId, "a", "a2", "a3", "r3", TTL))
+                .isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat(binaryRedisTemplate.opsForZSet().size(sessionLruKey())).isEqualTo(2);
+    }
+
+    @Test
+    void evictionRemovesRotationNonceField() throws InterruptedException {
+        repository.saveSession(accountId, "a", "a1", TTL, 1);
+        repository.rotateSession(accountId, "a", "a1", "a2", "r1", TTL);
+        Thread.sleep(5);
+
+        repository.saveSession(accountId, "b", "b1", TTL, 1);
+
+        assertThat(binaryRedisTemplate.opsForHash().hasKey(sessionKey(), bytes("a#r"))).isFalse();
+        assertThat(binaryRedisTemplate.opsForHash().size(sessionKey())).isEqualTo(1);
+    }
+
+    @Test
+    void digestModeAcceptsRawValuesStoredDuringDual() {
+        repository.saveSession(accountId, "sid", "t1", TTL, MAX_SESSIONS);
+        jwtProperties.setRefreshStorageMode(JwtProperties.RefreshStorageMode.DIGEST);
+
+        assertThat(repository.rotateSession(accountId, "sid", "t1", "t2", "r1", TTL))
+                .isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat((byte[]) binaryRedisTemplate.opsForHash().get(sessionKey(), bytes("sid")))
+                .isEqualTo(TokenDigestUtil.sha256("t2"));
+        assertThat(repository.rotateSession(accountId, "sid", "t2", "t3", "r2", TTL))
+                .isEqualTo(RefreshTokenRotationResult.ROTATED);
+    }
+
+    @Test
+    void plainModeStoresRawValueAndRejectsDigest() {
+        jwtProperties.setRefreshStorageMode(JwtProperties.RefreshStorageMode.PLAIN);
+        repository.saveSession(accountId, "a", "a1", TTL, MAX_SESSIONS);
+
+        assertThat(repository.rotateSession(accountId, "a", "a1", "a2", "r1", TTL))
+                .isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat((byte[]) binaryRedisTemplate.opsForHash().get(sessionKey(), bytes("a")))
+                .isEqualTo(bytes("a2"));
+
+        // DIGEST 모드에서 저장된 세션은 PLAIN으로 되돌리면 더 이상 일치하지 않음
+        jwtProperties.setRefreshStorageMode(JwtProperties.RefreshStorageMode.DIGEST);
+        repository.saveSession(accountId, "b", "b1", TTL, MAX_SESSIONS);
+        jwtProperties.setRefreshStorageMode(JwtProperties.RefreshStorageMode.PLAIN);
+
+        assertThat(repository.rotateSession(accountId, "b", "b1", "b2", "r2", TTL))
+                .isEqualTo(RefreshTokenRotationResult.REUSED);
+    }
+
+    @Test
+    void legacyTokenMigratesToNewSessionAtomically() {
+        binaryRedisTemplate.opsForValue().set(legacyKey(), bytes("legacy"));
+
+        assertThat(repository.migrateLegacy(accountId, "legacy", "sid", "t1", "r1", TTL, MAX_SESSIONS))
+                .isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat(binaryRedisTemplate.hasKey(legacyKey())).isFalse();
+        assertThat(repository.rotateSession(accountId, "sid", "t1", "t2", "r2", TTL))
+                .isEqualTo(RefreshTokenRotationResult.ROTATED);
+    }
+
+    @Test
+    void legacyMigrationRetryIsIdempotent() {
+        binaryRedisTemplate.opsForValue().set(legacyKey(), bytes("legacy"));
+        repository.migrateLegacy(accountId, "legacy", "sid", "t1", "r1", TTL, MAX_SESSIONS);
+
+        // 기존 키 삭제 후 재시도: 같은 nonce면 ROTATED, 다른 요청의 재사용이면 NOT_FOUND
+        assertThat(repository.migrateLegacy(accountId, "legacy", "sid", "t1", "r1", TTL, MAX_SESSIONS))
+                .isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat(repository.migrateLegacy(accountId, "legacy", "sid2", "t9", "r9", TTL, MAX_SESSIONS))
+                .isEqualTo(RefreshTokenRotationResult.NOT_FOUND);
+    }
+
+    @Test
+    void legacyMismatchKeepsExistingToken() {
+        binaryRedisTemplate.opsForValue().set(legacyKey(), bytes("legacy"));
+
+        assertThat(repository.migrateLegacy(accountId, "other", "sid", "t1", "r1", TTL, MAX_SESSIONS))
+                .isEqualTo(RefreshTokenRotationResult.MISMATCH);
+        assertThat(binaryRedisTemplate.hasKey(legacyKey())).isTrue();
+        assertThat(binaryRedisTemplate.hasKey(sessionKey())).isFalse();
+    }
+
+    @Test
+    void deleteRemovesAllSessionsAndLegacyToken() {
+        repository.saveSession(accountId, "sid", "t1", TTL, MAX_SESSIONS);
+        binaryRedisTemplate.opsForValue().set(legacyKey(), bytes("legacy"));
+
+        repository.delete(accountId);
+
+        assertThat(binaryRedisTemplate.hasKey(sessionKey())).isFalse();
+        assertThat(binaryRedisTemplate.hasKey(sessionLruKey())).isFalse();
+        assertThat(binaryRedisTemplate.hasKey(legacyKey())).isFalse();
+    }
+
+    private byte[] sessionKey() {
+        return bytes("refresh_session:" + accountId);
+    }
+
+    private byte[] sessionLruKey() {
+        return bytes("refresh_session_lru:" + accountId);
+    }
+
+    private byte[] legacyKey() {
+        return bytes("refresh_token:" + accountId);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}